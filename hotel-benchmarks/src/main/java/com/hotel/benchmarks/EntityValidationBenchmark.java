@@ -0,0 +1,90 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Service.EntityValidator;
+
+/**
+ * Per-entity validation cost of one write request. {@code legacy*} is what a request paid before
+ * {@link EntityValidator}: Bean Validation on the controller argument plus the {@code String.matches}
+ * checks in the service. {@code engine*} is the single pass that replaced both. Run with
+ * {@code -prof gc} to see the allocation difference as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityValidationBenchmark {
+    private final EntityValidator entityValidator = new EntityValidator();
+    private ValidatorFactory validatorFactory;
+    private Validator beanValidator;
+    private Room room;
+    private User user;
+    private Invoice invoice;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        room = Fixtures.room(1);
+        user = Fixtures.user(1);
+        invoice = Fixtures.invoice(1, Fixtures.booking(1, room, user));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void legacyRoom(Blackhole blackhole) {
+        blackhole.consume(beanValidator.validate(room));
+        LegacyValidation.validateRoom(room);
+    }
+
+    @Benchmark
+    public void engineRoom() {
+        entityValidator.validateRoom(room);
+    }
+
+    @Benchmark
+    public void legacyUser(Blackhole blackhole) {
+        blackhole.consume(beanValidator.validate(user));
+        LegacyValidation.validateUser(user);
+    }
+
+    @Benchmark
+    public void engineUser() {
+        entityValidator.validateUser(user);
+    }
+
+    @Benchmark
+    public void legacyInvoice(Blackhole blackhole) {
+        blackhole.consume(beanValidator.validate(invoice));
+        LegacyValidation.validateInvoice(invoice);
+    }
+
+    @Benchmark
+    public void engineInvoice() {
+        entityValidator.validateNewInvoice(invoice);
+    }
+}
@@ -0,0 +1,72 @@
+package com.hotel.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+
+/**
+ * Valid sample entities shared by the benchmarks. Values pass every rule, so the benchmarks
+ * measure the happy path that real traffic takes.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Room room(long id) {
+        Room room = new Room();
+        room.setId(id);
+        room.setRoomNumber(String.format("%c%03d", (char) ('A' + id % 26), id % 1000));
+        room.setRoomType(new String[]{"SINGLE", "DOUBLE", "SUITE", "DELUXE"}[(int) (id % 4)]);
+        room.setCapacity(1 + (int) (id % 6));
+        room.setPricePerNight((100 + (id * 37) % 9900) * 100);
+        room.setRoomStatus(id % 5 == 0 ? "OCCUPIED" : "AVAILABLE");
+        room.setDescription("Sea view room with a balcony");
+        room.setSmokingAllowed(id % 3 == 0 ? "YES" : "NO");
+        room.setFloorNumber(1 + (int) (id % 20));
+        return room;
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName("Mohammed");
+        user.setLastName("Amr");
+        user.setEmail("guest" + id + "@example.com");
+        user.setPassword("Pass123@");
+        user.setPhoneNumber("+201012345678");
+        user.setAddress("12 Nile Street, Cairo");
+        user.setUserRole("USER");
+        return user;
+    }
+
+    static Booking booking(long id, Room room, User user) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setBookingNumber(String.format("BKG-%04d", id % 10000));
+        booking.setCheckInDate(LocalDate.now().plusDays(1 + id % 30));
+        booking.setCheckOutDate(LocalDate.now().plusDays(3 + id % 30));
+        booking.setRoom(room);
+        booking.setUser(user);
+        return booking;
+    }
+
+    static Invoice invoice(long id, Booking booking) {
+        Invoice invoice = new Invoice();
+        invoice.setId(id);
+        invoice.setBooking(booking);
+        invoice.setUser(booking.getUser());
+        invoice.setInvoiceDate(LocalDateTime.now());
+        invoice.setTotalAmount(Money.of("1250.00"));
+        invoice.setTaxAmount(Money.of("175.00"));
+        invoice.setDiscountAmount(Money.of("50.00"));
+        invoice.setPaymentStatus("PAID");
+        invoice.setPaymentMethod("CREDIT_CARD");
+        invoice.setNotes("Late checkout requested");
+        return invoice;
+    }
+}
@@ -0,0 +1,63 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.InvoiceRepository;
+import com.hotel.hotel.Service.EntityValidator;
+import com.hotel.hotel.Service.InvoiceService;
+
+/**
+ * The in-memory part of creating an invoice: validation plus the total amount calculation. The
+ * repository hands the invoice straight back, so nothing is persisted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvoiceBenchmark {
+    private static final long BASE_TOTAL = Money.of("1250.00");
+
+    private InvoiceService invoiceService;
+    private EntityValidator entityValidator;
+    private Invoice invoice;
+
+    @Setup
+    public void setUp() {
+        entityValidator = new EntityValidator();
+        InvoiceRepository invoiceRepository = Stubs.repository(InvoiceRepository.class, Map.of("save", args -> args[0]));
+        invoiceService = new InvoiceService();
+        Stubs.inject(invoiceService, "invoiceRepository", invoiceRepository);
+        Stubs.inject(invoiceService, "entityValidator", entityValidator);
+        Room room = Fixtures.room(1);
+        User user = Fixtures.user(1);
+        invoice = Fixtures.invoice(1, Fixtures.booking(1, room, user));
+    }
+
+    @Benchmark
+    public void validateInvoice() {
+        entityValidator.validateNewInvoice(invoice);
+    }
+
+    @Benchmark
+    public Invoice createInvoice() {
+        // createInvoice folds tax and discount into the total, so start from the same base every call
+        invoice.setTotalAmount(BASE_TOTAL);
+        return invoiceService.createInvoice(invoice);
+    }
+}
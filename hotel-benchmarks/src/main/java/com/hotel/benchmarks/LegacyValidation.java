@@ -0,0 +1,93 @@
+package com.hotel.benchmarks;
+
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+
+/**
+ * The service-layer checks as they were before {@code EntityValidator}: every rule calls
+ * {@link String#matches}, which compiles its regex again on each call. Kept here only as the
+ * baseline for {@link EntityValidationBenchmark}.
+ */
+final class LegacyValidation {
+
+    private LegacyValidation() {
+    }
+
+    static void validateRoom(Room room) {
+        if (room.getRoomNumber() == null || !room.getRoomNumber().matches("^[A-Z]\\d{3}$")) {
+            throw new IllegalArgumentException("Room number must be 1 uppercase letter followed by 3 digits (e.g., A101)");
+        }
+        if (room.getRoomType() == null || !room.getRoomType().matches("^(SINGLE|DOUBLE|SUITE|DELUXE)$")) {
+            throw new IllegalArgumentException("Room type must be either SINGLE, DOUBLE, SUITE, or DELUXE");
+        }
+        if (room.getCapacity() == null || room.getCapacity() < 1 || room.getCapacity() > 6) {
+            throw new IllegalArgumentException("Room capacity must be between 1 and 6 persons");
+        }
+        if (room.getPricePerNight() == null || room.getPricePerNight() < 10_000L || room.getPricePerNight() > 1_000_000L) {
+            throw new IllegalArgumentException("Room price must be between 100 and 10000 per night");
+        }
+        if (room.getRoomStatus() == null || !room.getRoomStatus().matches("^(AVAILABLE|OCCUPIED|MAINTENANCE|RESERVED)$")) {
+            throw new IllegalArgumentException("Room status must be either AVAILABLE, OCCUPIED, MAINTENANCE, or RESERVED");
+        }
+        if (room.getSmokingAllowed() != null && !room.getSmokingAllowed().matches("^(YES|NO)$")) {
+            throw new IllegalArgumentException("Smoking allowed must be either YES or NO");
+        }
+        if (room.getFloorNumber() == null || room.getFloorNumber() < 1 || room.getFloorNumber() > 20) {
+            throw new IllegalArgumentException("Floor number must be between 1 and 20");
+        }
+    }
+
+    static void validateUser(User user) {
+        if (user.getFirstName() == null || !user.getFirstName().matches("^[a-zA-Z\\s]{2,50}$")) {
+            throw new IllegalArgumentException("Invalid first name - must be 2-50 characters and contain only letters");
+        }
+        if (user.getLastName() == null || !user.getLastName().matches("^[a-zA-Z\\s]{2,50}$")) {
+            throw new IllegalArgumentException("Invalid last name - must be 2-50 characters and contain only letters");
+        }
+        if (user.getEmail() == null || !user.getEmail().matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+        if (user.getPassword() == null || !user.getPassword().matches("^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\\S+$).{8,}$")) {
+            throw new IllegalArgumentException("Password must be at least 8 characters and contain at least one digit, one uppercase, one lowercase, and one special character");
+        }
+        if (user.getPhoneNumber() == null || !user.getPhoneNumber().matches("^\\+201[0-2,5]{1}\\d{8}$")) {
+            throw new IllegalArgumentException("Invalid Egyptian phone number format - must start with +201");
+        }
+        if (user.getAddress() == null || !user.getAddress().matches("^[\\w\\s,.-]{10,255}$")) {
+            throw new IllegalArgumentException("Address must be between 10 and 255 characters");
+        }
+        if (user.getUserRole() == null || !user.getUserRole().matches("^(ADMIN|USER|STAFF)$")) {
+            throw new IllegalArgumentException("User role must be either ADMIN, USER, or STAFF");
+        }
+    }
+
+    static void validateInvoice(Invoice invoice) {
+        if (invoice.getBooking() == null) {
+            throw new IllegalArgumentException("Booking is required");
+        }
+        if (invoice.getUser() == null) {
+            throw new IllegalArgumentException("User is required");
+        }
+        if (invoice.getTotalAmount() != null && invoice.getTotalAmount() < 0) {
+            throw new IllegalArgumentException("Total amount must be positive");
+        }
+        if (invoice.getPaymentStatus() != null
+                && !invoice.getPaymentStatus().matches("^(PENDING|PAID|CANCELLED|REFUNDED)$")) {
+            throw new IllegalArgumentException("Payment status must be either PENDING, PAID, CANCELLED, or REFUNDED");
+        }
+        if (invoice.getPaymentMethod() != null
+                && !invoice.getPaymentMethod().matches("^(CASH|CREDIT_CARD|DEBIT_CARD|BANK_TRANSFER)$")) {
+            throw new IllegalArgumentException("Payment method must be either CASH, CREDIT_CARD, DEBIT_CARD, or BANK_TRANSFER");
+        }
+        if (invoice.getNotes() != null && invoice.getNotes().length() > 500) {
+            throw new IllegalArgumentException("Notes cannot exceed 500 characters");
+        }
+        if (invoice.getTaxAmount() != null && invoice.getTaxAmount() < 0) {
+            throw new IllegalArgumentException("Tax amount cannot be negative");
+        }
+        if (invoice.getDiscountAmount() != null && invoice.getDiscountAmount() < 0) {
+            throw new IllegalArgumentException("Discount amount cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.Money;
+
+/**
+ * Revenue over a month of invoices and a week's quote subtotal for every room, computed the way
+ * the services did with boxed {@code Double} amounts and the way they do now with cents in
+ * {@code long} arrays. Setup prints how far the double sum drifts from the exact total.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(MoneyBenchmark.class);
+
+    private static final int NIGHTS = 7;
+
+    @Param({"1000", "30000"})
+    private int invoices;
+
+    @Param({"500"})
+    private int rooms;
+
+    private Double[] boxedTotals;
+    private Double[] boxedTaxes;
+    private Double[] boxedDiscounts;
+    private long[] totals;
+    private long[] taxes;
+    private long[] discounts;
+
+    private List<List<Double>> boxedRates;
+    private long[] rateGrid;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        boxedTotals = new Double[invoices];
+        boxedTaxes = new Double[invoices];
+        boxedDiscounts = new Double[invoices];
+        totals = new long[invoices];
+        taxes = new long[invoices];
+        discounts = new long[invoices];
+        for (int i = 0; i < invoices; i++) {
+            totals[i] = random.nextLong(10_000, 2_000_000);
+            taxes[i] = Money.times(totals[i], 0.14);
+            discounts[i] = random.nextInt(10) == 0 ? Money.times(totals[i], 0.1) : 0L;
+            boxedTotals[i] = totals[i] / 100.0;
+            boxedTaxes[i] = taxes[i] / 100.0;
+            boxedDiscounts[i] = discounts[i] / 100.0;
+        }
+        boxedRates = new ArrayList<>(rooms);
+        rateGrid = new long[rooms * NIGHTS];
+        for (int room = 0; room < rooms; room++) {
+            List<Double> nightly = new ArrayList<>(NIGHTS);
+            for (int night = 0; night < NIGHTS; night++) {
+                rateGrid[room * NIGHTS + night] = random.nextLong(10_000, 1_000_000);
+                nightly.add(rateGrid[room * NIGHTS + night] / 100.0);
+            }
+            boxedRates.add(nightly);
+        }
+        log.info("{} invoices: double revenue {}, exact {}", invoices,
+                new BigDecimal(boxedRevenue()).toPlainString(), Money.format(centsRevenue()));
+    }
+
+    // Each invoice total unboxed, computed and reboxed as calculateTotalAmount did, then summed
+    // into a Double the way the rollup fields were
+    @Benchmark
+    public Double boxedRevenue() {
+        Double revenue = 0.0;
+        for (int i = 0; i < invoices; i++) {
+            Double total = boxedTotals[i] + boxedTaxes[i] - boxedDiscounts[i];
+            revenue += total;
+        }
+        return revenue;
+    }
+
+    @Benchmark
+    public long centsRevenue() {
+        long revenue = 0L;
+        for (int i = 0; i < invoices; i++) {
+            revenue += Money.total(totals[i], taxes[i], discounts[i]);
+        }
+        return revenue;
+    }
+
+    @Benchmark
+    public double boxedQuoteSubtotals() {
+        double cheapest = Double.MAX_VALUE;
+        for (List<Double> nightly : boxedRates) {
+            double subtotal = 0.0;
+            for (Double rate : nightly) {
+                subtotal += rate;
+            }
+            cheapest = Math.min(cheapest, Math.round(subtotal * 100) / 100.0);
+        }
+        return cheapest;
+    }
+
+    @Benchmark
+    public long centsQuoteSubtotals() {
+        long cheapest = Long.MAX_VALUE;
+        for (int room = 0; room < rooms; room++) {
+            cheapest = Math.min(cheapest, Money.sum(rateGrid, room * NIGHTS, (room + 1) * NIGHTS));
+        }
+        return cheapest;
+    }
+}
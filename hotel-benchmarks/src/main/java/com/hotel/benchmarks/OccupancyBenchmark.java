@@ -0,0 +1,140 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Model.OccupancyReport;
+import com.hotel.hotel.Model.RoomRate;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Service.OccupancyEngine;
+
+/**
+ * A year of bookings for the given number of rooms at roughly 75% occupancy. The engine answers
+ * from its fact columns; {@code bookingListByDay} is the same day grouping computed by walking
+ * booking rows the way a client of the old list endpoints has to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class OccupancyBenchmark {
+    private static final String[] TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+
+    @Param({"500"})
+    private int rooms;
+
+    private final LocalDate start = LocalDate.of(2025, 1, 1);
+    private final LocalDate end = LocalDate.of(2025, 12, 31);
+
+    private OccupancyEngine engine;
+    private List<BookingStay> stays;
+    private List<RoomRate> rates;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        rates = new ArrayList<>(rooms);
+        stays = new ArrayList<>();
+        long bookingId = 1;
+        for (long roomId = 1; roomId <= rooms; roomId++) {
+            rates.add(new Rate(roomId, (int) (roomId % 20) + 1, TYPES[(int) (roomId % TYPES.length)], (100 + roomId % 900) * 100));
+            LocalDate night = start;
+            while (night.isBefore(end)) {
+                int nights = random.nextInt(1, 6);
+                if (random.nextInt(4) != 0) {
+                    stays.add(new Stay(bookingId++, roomId, night, night.plusDays(nights)));
+                }
+                night = night.plusDays(nights);
+            }
+        }
+        BookingRepository bookingRepository = Stubs.repository(BookingRepository.class, Map.of("findAllStays", args -> stays));
+        RoomRepository roomRepository = Stubs.repository(RoomRepository.class, Map.of("findAllRates", args -> rates));
+        engine = Stubs.inject(Stubs.inject(new OccupancyEngine(), "bookingRepository", bookingRepository),
+                "roomRepository", roomRepository);
+        engine.rebuild();
+    }
+
+    @Benchmark
+    public OccupancyReport byDay() {
+        return engine.occupancy(start, end, "day");
+    }
+
+    @Benchmark
+    public OccupancyReport byFloor() {
+        return engine.occupancy(start, end, "floor");
+    }
+
+    @Benchmark
+    public OccupancyReport byRoomType() {
+        return engine.occupancy(start, end, "roomType");
+    }
+
+    @Benchmark
+    public Map<LocalDate, Long> bookingListByDay() {
+        Map<Long, Long> prices = new HashMap<>();
+        rates.forEach(rate -> prices.put(rate.getId(), rate.getPricePerNight()));
+        Map<LocalDate, Long> revenue = new TreeMap<>();
+        for (BookingStay stay : stays) {
+            stay.getCheckInDate().datesUntil(stay.getCheckOutDate())
+                    .filter(night -> !night.isBefore(start) && !night.isAfter(end))
+                    .forEach(night -> revenue.merge(night, prices.get(stay.getRoomId()), Long::sum));
+        }
+        return revenue;
+    }
+
+    private record Stay(Long id, Long roomId, LocalDate checkIn, LocalDate checkOut) implements BookingStay {
+        public Long getId() {
+            return id;
+        }
+
+        public Long getRoomId() {
+            return roomId;
+        }
+
+        public LocalDate getCheckInDate() {
+            return checkIn;
+        }
+
+        public LocalDate getCheckOutDate() {
+            return checkOut;
+        }
+    }
+
+    private record Rate(Long id, Integer floorNumber, String roomType, Long pricePerNight) implements RoomRate {
+        public Long getId() {
+            return id;
+        }
+
+        public Integer getFloorNumber() {
+            return floorNumber;
+        }
+
+        public String getRoomType() {
+            return roomType;
+        }
+
+        public Long getPricePerNight() {
+            return pricePerNight;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Security.PasswordHasher;
+
+/**
+ * BCrypt as {@code UserService} uses it: {@code encode} on registration and password change,
+ * {@code matchesAsync} on login. Both run on the hasher pool, so the score includes the hand-off.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+    private static final String PASSWORD = "Pass123@";
+
+    private PasswordHasher passwordHasher;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        passwordHasher = new PasswordHasher(0, 64, 5000);
+        encoded = passwordHasher.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordHasher.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordHasher.matchesAsync(PASSWORD, encoded).join();
+    }
+}
@@ -0,0 +1,64 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Service.RoomService;
+
+/**
+ * {@link RoomService#searchRooms} filters the whole catalog in memory. The repository returns a
+ * prebuilt list, so the score is the filtering cost alone for each catalog size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class RoomSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rooms;
+
+    private RoomService roomService;
+
+    @Setup
+    public void setUp() {
+        List<Room> catalog = new ArrayList<>(rooms);
+        for (long id = 1; id <= rooms; id++) {
+            catalog.add(Fixtures.room(id));
+        }
+        RoomRepository roomRepository = Stubs.repository(RoomRepository.class, Map.of("findAll", args -> catalog));
+        roomService = Stubs.inject(new RoomService(), "roomRepository", roomRepository);
+    }
+
+    @Benchmark
+    public List<Room> noFilters() {
+        return roomService.searchRooms(null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<Room> priceRange() {
+        return roomService.searchRooms(Money.of("500.00"), Money.of("1500.00"), null, null, null, null);
+    }
+
+    @Benchmark
+    public List<Room> allFilters() {
+        return roomService.searchRooms(Money.of("500.00"), Money.of("5000.00"), 2, "suite", "no", 7);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+
+/**
+ * JSON encoding of a list page. Each booking carries its room and user, and each invoice carries
+ * its booking graph, the same shape the list endpoints return.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Booking> bookings;
+    private List<Invoice> invoices;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC ObjectMapper (java.time module, ISO dates)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        bookings = new ArrayList<>(pageSize);
+        invoices = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Room room = Fixtures.room(id);
+            User user = Fixtures.user(id);
+            Booking booking = Fixtures.booking(id, room, user);
+            bookings.add(booking);
+            invoices.add(Fixtures.invoice(id, booking));
+        }
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+
+    @Benchmark
+    public byte[] invoicePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(invoices);
+    }
+}
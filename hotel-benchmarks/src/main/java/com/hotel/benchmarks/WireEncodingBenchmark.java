@@ -0,0 +1,78 @@
+package com.hotel.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+
+/**
+ * Encoding a booking list page as each negotiated representation: JSON or Smile, with or without
+ * the gzip Tomcat applies above the compression threshold. The score is encode time; the bytes
+ * each combination puts on the wire are printed once per fork from setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireEncodingBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(WireEncodingBenchmark.class);
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    @Param({"json", "smile"})
+    private String encoding;
+
+    @Param({"identity", "gzip"})
+    private String compression;
+
+    private ObjectMapper objectMapper;
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same builders the MVC converters are created from
+        objectMapper = "smile".equals(encoding)
+                ? Jackson2ObjectMapperBuilder.smile().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        bookings = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Room room = Fixtures.room(id);
+            User user = Fixtures.user(id);
+            bookings.add(Fixtures.booking(id, room, user));
+        }
+        log.info("{} bookings as {}/{}: {} bytes", pageSize, encoding, compression, bookingPage().length);
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(pageSize * 256);
+        try (OutputStream out = "gzip".equals(compression) ? new GZIPOutputStream(bytes) : bytes) {
+            objectMapper.writeValue(out, bookings);
+        }
+        return bytes.toByteArray();
+    }
+}
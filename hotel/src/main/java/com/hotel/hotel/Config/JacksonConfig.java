@@ -0,0 +1,126 @@
+package com.hotel.hotel.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import com.hotel.hotel.Model.SparseFields;
+
+@Configuration
+public class JacksonConfig {
+
+    // Summary rows carry @JsonFilter; unless a request narrows them with ?fields= they are written in full
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsDefault() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(SparseFields.FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    // Bodies below server.compression.min-response-size are buffered so they go out with a Content-Length;
+    // without one Tomcat compresses every response, however small. Anything larger is streamed as it is
+    // written and compressed anyway, so it is never held in memory whole
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize compressionThreshold;
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                writeWithLength(outputMessage, buffered -> super.writeInternal(object, type, buffered));
+            }
+        };
+    }
+
+    // Serves Accept: application/x-jackson-smile with the same modules and filters as the JSON
+    // mapper; JSON stays the default for clients that accept anything
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                writeWithLength(outputMessage, buffered -> super.writeInternal(object, type, buffered));
+            }
+        };
+    }
+
+    private interface Write {
+        void to(HttpOutputMessage message) throws IOException;
+    }
+
+    private void writeWithLength(HttpOutputMessage outputMessage, Write write) throws IOException {
+        ThresholdOutputStream body = new ThresholdOutputStream(outputMessage, (int) compressionThreshold.toBytes());
+        write.to(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        body.finish();
+    }
+
+    private static final class ThresholdOutputStream extends OutputStream {
+        private final HttpOutputMessage message;
+        private final int threshold;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        private OutputStream streaming;
+
+        ThresholdOutputStream(HttpOutputMessage message, int threshold) {
+            this.message = message;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (streaming == null && buffer.size() + length >= threshold) {
+                streaming = message.getBody();
+                buffer.writeTo(streaming);
+                buffer = null;
+            }
+            if (streaming != null) {
+                streaming.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        // The generator flushes when it is done; a buffered body waits for finish() to learn its length
+        @Override
+        public void flush() throws IOException {
+            if (streaming != null) {
+                streaming.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (streaming == null) {
+                message.getHeaders().setContentLength(buffer.size());
+                buffer.writeTo(message.getBody());
+            }
+        }
+    }
+}
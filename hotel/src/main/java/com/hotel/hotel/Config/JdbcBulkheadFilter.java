@@ -0,0 +1,126 @@
+package com.hotel.hotel.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most as many API requests as the JDBC pool has connections. With virtual threads Tomcat
+ * no longer caps concurrency, so without this every request would start and then queue inside the
+ * pool. Instead the excess waits here on a fair semaphore, which parks a virtual thread without
+ * holding a carrier. Waits longer than {@code hotel.bulkhead.max-wait} get a 503.
+ * <p>
+ * Always registered and switched by {@code hotel.bulkhead.enabled} per request, so an AOT-built jar,
+ * whose bean conditions were settled at build time, still honours the flag it is started with.
+ */
+@Component
+public class JdbcBulkheadFilter extends OncePerRequestFilter {
+    public static final String WAIT_TIMER = "hotel.bulkhead.wait";
+
+    private final boolean enabled;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Timer admitted;
+    private final Timer rejected;
+
+    public JdbcBulkheadFilter(MeterRegistry registry,
+                              @Value("${hotel.bulkhead.enabled:false}") boolean enabled,
+                              @Value("${hotel.bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+                              @Value("${hotel.bulkhead.max-wait:PT5S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.permits = new Semaphore(permits, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.admitted = Timer.builder(WAIT_TIMER).description("Time a request waited for a bulkhead permit")
+                .tag("outcome", "admitted").register(registry);
+        this.rejected = Timer.builder(WAIT_TIMER).description("Time a request waited for a bulkhead permit")
+                .tag("outcome", "rejected").register(registry);
+        Gauge.builder("hotel.bulkhead.waiting", this.permits, Semaphore::getQueueLength)
+                .description("Requests waiting for a bulkhead permit").register(registry);
+        Gauge.builder("hotel.bulkhead.in.use", this.permits, semaphore -> permits - semaphore.availablePermits())
+                .description("Requests holding a bulkhead permit").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        (acquired ? admitted : rejected).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.getWriter().write("Error: Server is busy, please retry");
+            return;
+        }
+        Runnable release = releaseOnce();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // A streamed export keeps its connection until the async request ends, so it keeps the permit too
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private Runnable releaseOnce() {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    private record ReleasingListener(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        // Listeners are dropped when async processing restarts, so this one registers itself again
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
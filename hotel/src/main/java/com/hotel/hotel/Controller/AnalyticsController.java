@@ -0,0 +1,29 @@
+package com.hotel.hotel.Controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
+import com.hotel.hotel.Service.OccupancyEngine;
+
+@RestController
+@RequestMapping("/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+    @Autowired
+    private OccupancyEngine occupancyEngine;
+
+    @GetMapping("/occupancy")
+    public ResponseEntity<?> getOccupancy(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "day") String groupBy) {
+        try {
+            return ResponseEntity.ok(occupancyEngine.occupancy(startDate, endDate, groupBy));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+}
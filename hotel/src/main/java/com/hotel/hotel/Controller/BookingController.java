@@ -2,11 +2,20 @@ package com.hotel.hotel.Controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.SparseFields;
+import com.hotel.hotel.Model.BookingSummary;
 import com.hotel.hotel.Service.BookingService;
-import jakarta.validation.Valid;
+import com.hotel.hotel.Service.ExportService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/bookings")
@@ -15,20 +24,85 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private ExportService exportService;
+
     @GetMapping("/")
-    public ResponseEntity<List<Booking>> getAllBookings() {
-        return ResponseEntity.ok(bookingService.getAllBookings());
+    public ResponseEntity<?> getAllBookings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, bookingService.getVersionStamp())) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok(SparseFields.select(bookingService.getBookings(cursor, size, sort), fields, BookingSummary.class));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<?> checkRoomAvailability(
+            @RequestParam Long roomId,
+            @RequestParam LocalDate checkIn,
+            @RequestParam LocalDate checkOut) {
+        try {
+            boolean available = bookingService.isRoomAvailable(roomId, checkIn, checkOut);
+            return ResponseEntity.ok(Map.of("roomId", roomId, "available", available));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/availability/consistency")
+    public ResponseEntity<Map<String, Object>> checkAvailabilityIndex() {
+        return ResponseEntity.ok(bookingService.checkAvailabilityIndex());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            exportService.validateFormat(format);
+            if (startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("Start date must be before end date");
+            }
+        } catch (IllegalArgumentException e) {
+            // Declared as a streaming body so Spring writes it directly instead of through a converter
+            String message = "Error: " + e.getMessage();
+            return ResponseEntity
+                    .badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+        }
+        StreamingResponseBody body = out -> exportService.exportBookings(startDate, endDate, format, out);
+        return ResponseEntity.ok()
+                .contentType(exportService.contentType(format))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=bookings." + format)
+                .body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Booking> getBookingById(@PathVariable Long id) {
+    public ResponseEntity<Booking> getBookingById(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, bookingService.getVersionStamp(id))) {
+            return null;
+        }
         return bookingService.getBookingById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/")
-    public ResponseEntity<?> createBooking(@Valid @RequestBody Booking booking) {
+    public ResponseEntity<?> createBooking(@RequestBody Booking booking) {
         try {
             Booking createdBooking = bookingService.createBooking(booking);
             return ResponseEntity.ok(createdBooking);
@@ -39,8 +113,19 @@ public class BookingController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createBookings(@RequestBody List<Booking> bookings) {
+        try {
+            return ResponseEntity.ok(bookingService.createBookings(bookings));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error creating bookings: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateBooking(@PathVariable Long id, @Valid @RequestBody Booking bookingDetails) {
+    public ResponseEntity<?> updateBooking(@PathVariable Long id, @RequestBody Booking bookingDetails) {
         try {
             Booking updatedBooking = bookingService.updateBooking(id, bookingDetails);
             if (updatedBooking != null) {
@@ -0,0 +1,52 @@
+package com.hotel.hotel.Controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.hotel.hotel.Model.VersionStamp;
+
+/**
+ * Conditional GET checks that run before the response body is loaded. When one returns true the
+ * response is already a 304 and the handler returns null.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    // A single row: ETag and Last-Modified are both exact
+    static boolean rowNotModified(ServletWebRequest request, VersionStamp stamp) {
+        if (stamp.rows() == 0) {
+            return false;
+        }
+        revalidate(request);
+        return stamp.lastModified() == null
+                ? request.checkNotModified(stamp.etag())
+                : request.checkNotModified(stamp.etag(), stamp.lastModified().toEpochMilli());
+    }
+
+    // Lists and responses that embed other rows: a delete or a change to an embedded row can leave the
+    // newest last-modified time unchanged, so only the ETag is checked and Last-Modified is informational
+    static boolean notModified(ServletWebRequest request, VersionStamp stamp) {
+        revalidate(request);
+        if (request.checkNotModified(stamp.etag())) {
+            return true;
+        }
+        HttpServletResponse response = request.getResponse();
+        if (stamp.lastModified() != null && response != null) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, stamp.lastModified().toEpochMilli());
+        }
+        return false;
+    }
+
+    // Replaces Spring Security's no-store default so clients keep the body and revalidate it. The
+    // validator is shared by every negotiated encoding, so caches have to key on Accept as well
+    private static void revalidate(ServletWebRequest request) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+    }
+}
@@ -3,12 +3,25 @@ package com.hotel.hotel.Controller;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.*;
-import jakarta.validation.Valid;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.SparseFields;
+import com.hotel.hotel.Model.InvoiceSummary;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.RevenueRollup;
+import com.hotel.hotel.Service.ExportService;
 import com.hotel.hotel.Service.InvoiceService;
+import com.hotel.hotel.Service.RevenueRollupService;
 
 @RestController
 @RequestMapping("/invoices")
@@ -17,20 +30,43 @@ public class InvoiceController {
     @Autowired
     private InvoiceService invoiceService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
     @GetMapping("/")
-    public ResponseEntity<List<Invoice>> getAllInvoices() {
-        return ResponseEntity.ok(invoiceService.getAllInvoices());
+    public ResponseEntity<?> getAllInvoices(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, invoiceService.getVersionStamp())) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok(SparseFields.select(invoiceService.getInvoices(cursor, size, sort), fields, InvoiceSummary.class));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Invoice> getInvoiceById(@PathVariable Long id) {
+    public ResponseEntity<Invoice> getInvoiceById(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, invoiceService.getVersionStamp(id))) {
+            return null;
+        }
         return invoiceService.getInvoiceById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/")
-    public ResponseEntity<?> createInvoice(@Valid @RequestBody Invoice invoice) {
+    public ResponseEntity<?> createInvoice(@RequestBody Invoice invoice) {
         try {
             Invoice createdInvoice = invoiceService.createInvoice(invoice);
             return new ResponseEntity<>(createdInvoice, HttpStatus.CREATED);
@@ -41,8 +77,19 @@ public class InvoiceController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createInvoices(@RequestBody List<Invoice> invoices) {
+        try {
+            return ResponseEntity.ok(invoiceService.createInvoices(invoices));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error creating invoices: " + e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateInvoice(@PathVariable Long id, @Valid @RequestBody Invoice invoiceDetails) {
+    public ResponseEntity<?> updateInvoice(@PathVariable Long id, @RequestBody Invoice invoiceDetails) {
         try {
             Invoice updatedInvoice = invoiceService.updateInvoice(id, invoiceDetails);
             if (updatedInvoice != null) {
@@ -67,7 +114,10 @@ public class InvoiceController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Invoice>> getInvoicesByUser(@PathVariable Long userId) {
+    public ResponseEntity<List<Invoice>> getInvoicesByUser(@PathVariable Long userId, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, invoiceService.getUserVersionStamp(userId))) {
+            return null;
+        }
         return ResponseEntity.ok(invoiceService.getInvoicesByUserId(userId));
     }
 
@@ -114,12 +164,56 @@ public class InvoiceController {
         }
     }
 
+    @GetMapping("/revenue")
+    public ResponseEntity<?> getRevenue(
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate) {
+        try {
+            List<RevenueRollup> revenue = revenueRollupService.getRevenue(startDate, endDate);
+            return ResponseEntity.ok(revenue);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/revenue/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRevenue() {
+        return ResponseEntity.ok(revenueRollupService.rebuild());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInvoices(
+            @RequestParam LocalDateTime startDate,
+            @RequestParam LocalDateTime endDate,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            exportService.validateFormat(format);
+            if (startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("Start date must be before end date");
+            }
+        } catch (IllegalArgumentException e) {
+            // Declared as a streaming body so Spring writes it directly instead of through a converter
+            String message = "Error: " + e.getMessage();
+            return ResponseEntity
+                    .badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+        }
+        StreamingResponseBody body = out -> exportService.exportInvoices(startDate, endDate, format, out);
+        return ResponseEntity.ok()
+                .contentType(exportService.contentType(format))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=invoices." + format)
+                .body(body);
+    }
+
     @GetMapping("/amount-range")
     public ResponseEntity<?> getInvoicesByAmountRange(
-            @RequestParam Double minAmount,
-            @RequestParam Double maxAmount) {
+            @RequestParam BigDecimal minAmount,
+            @RequestParam BigDecimal maxAmount) {
         try {
-            List<Invoice> invoices = invoiceService.getInvoicesByAmountRange(minAmount, maxAmount);
+            List<Invoice> invoices = invoiceService.getInvoicesByAmountRange(Money.of(minAmount), Money.of(maxAmount));
             return ResponseEntity.ok(invoices);
         } catch (IllegalArgumentException e) {
             return ResponseEntity
@@ -2,12 +2,21 @@ package com.hotel.hotel.Controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.QuoteRequest;
 import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Service.PricingEngine;
+import com.hotel.hotel.Service.RoomEventStream;
 import com.hotel.hotel.Service.RoomService;
-import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Page;
 
 @RestController
 @RequestMapping("/rooms")
@@ -16,29 +25,82 @@ public class RoomController {
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private RoomEventStream roomEventStream;
+
     @GetMapping("/")
-    public ResponseEntity<List<Room>> getAllRooms() {
-        return ResponseEntity.ok(roomService.getAllRooms());
+    public ResponseEntity<?> getAllRooms(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, roomService.getVersionStamp())) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok(roomService.getRooms(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return roomEventStream.subscribe();
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Room> getRoomById(@PathVariable Long id) {
+    public ResponseEntity<Room> getRoomById(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalGet.rowNotModified(request, roomService.getVersionStamp(id))) {
+            return null;
+        }
         return roomService.getRoomById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/quote")
+    public ResponseEntity<?> getQuote(
+            @PathVariable Long id,
+            @RequestParam LocalDate checkIn,
+            @RequestParam LocalDate checkOut) {
+        try {
+            return ResponseEntity.ok(pricingEngine.quote(id, checkIn, checkOut));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/quotes")
+    public ResponseEntity<?> getQuotes(@RequestBody QuoteRequest request) {
+        try {
+            return ResponseEntity.ok(roomService.quoteRooms(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
     @PostMapping("/")
-    public ResponseEntity<Room> createRoom(@Valid @RequestBody Room room) {
+    public ResponseEntity<?> createRoom(@RequestBody Room room) {
         try {
             return new ResponseEntity<>(roomService.createRoom(room), HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error creating room: " + e.getMessage());
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateRoom(@PathVariable Long id, @Valid @RequestBody Room roomDetails) {
+    public ResponseEntity<?> updateRoom(@PathVariable Long id, @RequestBody Room roomDetails) {
         try {
             Room updatedRoom = roomService.updateRoom(id, roomDetails);
             if (updatedRoom != null) {
@@ -63,7 +125,10 @@ public class RoomController {
     }
 
     @GetMapping("/type/{roomType}")
-    public ResponseEntity<List<Room>> getRoomsByType(@PathVariable String roomType) {
+    public ResponseEntity<List<Room>> getRoomsByType(@PathVariable String roomType, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, roomService.getVersionStamp())) {
+            return null;
+        }
         try {
             List<Room> rooms = roomService.getRoomsByType(roomType);
             return ResponseEntity.ok(rooms);
@@ -73,7 +138,10 @@ public class RoomController {
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<Room>> getRoomsByStatus(@PathVariable String status) {
+    public ResponseEntity<List<Room>> getRoomsByStatus(@PathVariable String status, ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, roomService.getVersionStamp())) {
+            return null;
+        }
         try {
             List<Room> rooms = roomService.getRoomsByStatus(status);
             return ResponseEntity.ok(rooms);
@@ -84,14 +152,14 @@ public class RoomController {
 
     @GetMapping("/search")
     public ResponseEntity<List<Room>> searchRooms(
-            @RequestParam(required = false) Double minPrice,
-            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Integer minCapacity,
             @RequestParam(required = false) String roomType,
             @RequestParam(required = false) String smokingAllowed,
             @RequestParam(required = false) Integer floorNumber) {
         try {
-            List<Room> rooms = roomService.searchRooms(minPrice, maxPrice, minCapacity, 
+            List<Room> rooms = roomService.searchRooms(Money.ofNullable(minPrice), Money.ofNullable(maxPrice), minCapacity, 
                                                      roomType, smokingAllowed, floorNumber);
             return ResponseEntity.ok(rooms);
         } catch (IllegalArgumentException e) {
@@ -99,8 +167,34 @@ public class RoomController {
         }
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<?> searchAvailableRooms(
+            @RequestParam LocalDate checkIn,
+            @RequestParam LocalDate checkOut,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer minCapacity,
+            @RequestParam(required = false) String roomType,
+            @RequestParam(required = false) String smokingAllowed,
+            @RequestParam(required = false) Integer floorNumber,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<Room> rooms = roomService.searchAvailableRooms(checkIn, checkOut, Money.ofNullable(minPrice),
+                    Money.ofNullable(maxPrice), minCapacity, roomType, smokingAllowed, floorNumber, page, size);
+            return ResponseEntity.ok(rooms);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/available")
-    public ResponseEntity<List<Room>> getAvailableRooms() {
+    public ResponseEntity<List<Room>> getAvailableRooms(ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, roomService.getVersionStamp())) {
+            return null;
+        }
         return ResponseEntity.ok(roomService.getAvailableRooms());
     }
 }
@@ -5,10 +5,18 @@ import org.springframework.http.HttpStatus;
 import com.hotel.hotel.Model.Auth;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import jakarta.servlet.http.HttpServletRequest;
+import com.hotel.hotel.Security.TokenAuthenticationFilter;
+import com.hotel.hotel.Security.TokenClaims;
 import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Model.SparseFields;
+import com.hotel.hotel.Model.UserSummary;
 import com.hotel.hotel.Service.UserService;
 
 @RestController
@@ -19,19 +27,42 @@ public class UserController {
     private UserService userService;
 
     @GetMapping("/")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<?> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest request) {
+        if (ConditionalGet.notModified(request, userService.getVersionStamp())) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok(SparseFields.select(userService.getUsers(cursor, size), fields, UserSummary.class));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("Error: " + e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+    public ResponseEntity<User> getUserById(@PathVariable Long id, ServletWebRequest request) {
+        if (ConditionalGet.rowNotModified(request, userService.getVersionStamp(id))) {
+            return null;
+        }
         return userService.getUserById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // Anyone may register as a USER; other roles are granted by an admin
     @PostMapping("/register")
-    public ResponseEntity<?> createUser(@Valid @RequestBody User user) {
+    public ResponseEntity<?> createUser(@RequestBody User user, @AuthenticationPrincipal TokenClaims caller) {
+        if (user.getUserRole() == null) {
+            return ResponseEntity.badRequest().body("Error creating user: User role is required");
+        }
+        if (!"USER".equals(user.getUserRole()) && !isAdmin(caller)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only an admin can create " + user.getUserRole() + " users");
+        }
         try {
             Object result = userService.createUser(user);
             return new ResponseEntity<>(result, HttpStatus.CREATED);
@@ -43,23 +74,33 @@ public class UserController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody Auth auth) {
-        try {
-            Object result = userService.getUserLogin(auth.getEmail(), auth.getPassword());
-            if (result != null) {
-                return ResponseEntity.ok(result);
-            }
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body("Invalid email or password");
-        } catch (Exception e) {
-            return ResponseEntity
-                    .badRequest()
-                    .body("Error during login: " + e.getMessage());
-        }
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody Auth auth) {
+        return userService.getUserLogin(auth.getEmail(), auth.getPassword())
+                .thenApply(result -> {
+                    if (result != null) {
+                        return ResponseEntity.ok(result);
+                    }
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                            .body("Invalid email or password");
+                });
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        userService.logout(TokenAuthenticationFilter.bearerToken(request));
+        return ResponseEntity.noContent().build();
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateUser(@PathVariable Long id, @Valid @RequestBody User userDetails) {
+    public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User userDetails,
+                                        @AuthenticationPrincipal TokenClaims caller) {
+        // Email and password are how a user logs in, so only that user or an admin may change them
+        if (!id.equals(caller.userId()) && !isAdmin(caller)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only an admin can update another user");
+        }
+        if (userDetails.getUserRole() != null && !isAdmin(caller)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only an admin can change a user's role");
+        }
         try {
             User updatedUser = userService.updateUser(id, userDetails);
             if (updatedUser != null) {
@@ -88,4 +129,8 @@ public class UserController {
         List<User> users = userService.getUsersByRole(role);
         return ResponseEntity.ok(users);
     }
+
+    private static boolean isAdmin(TokenClaims caller) {
+        return caller != null && "ADMIN".equals(caller.role());
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 @RestControllerAdvice
 public class ApplicationHandler {
 
@@ -24,5 +25,11 @@ public class ApplicationHandler {
         return errors;
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public String handleRejectedExecution(RejectedExecutionException exception) {
+        return "Server is busy, please retry later";
+    }
+
 
 }
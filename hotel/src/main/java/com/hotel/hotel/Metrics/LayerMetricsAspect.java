@@ -0,0 +1,119 @@
+package com.hotel.hotel.Metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every controller endpoint and service method, and records how many rows each repository
+ * call returns. Repository call latency itself comes from Spring Boot's
+ * {@code spring.data.repository.invocations} timer, and the full HTTP round trip (including JSON
+ * encoding) from {@code http.server.requests}. Comparing the three shows where a slow request spends
+ * its time.
+ */
+@Aspect
+@Component
+public class LayerMetricsAspect {
+    public static final String CONTROLLER_TIMER = "hotel.controller";
+    public static final String SERVICE_TIMER = "hotel.service";
+    public static final String REPOSITORY_RESULTS = "hotel.repository.results";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public LayerMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_TIMER, joinPoint);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(com.hotel.hotel.Service..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object countRepositoryResults(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        int size = resultSize(result);
+        if (size >= 0) {
+            DistributionSummary.builder(REPOSITORY_RESULTS)
+                    .description("Rows returned by a repository call")
+                    .baseUnit("rows")
+                    .tag("repository", repositoryName(joinPoint.getTarget()))
+                    .tag("method", joinPoint.getSignature().getName())
+                    .register(registry)
+                    .record(size);
+        }
+        return result;
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(registry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, name, className, method, e);
+            throw e;
+        }
+        // Async endpoints (login) finish when the future completes, not when the method returns
+        if (result instanceof CompletionStage<?> stage) {
+            return stage.whenComplete((value, error) -> stop(sample, name, className, method, error));
+        }
+        stop(sample, name, className, method, null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String name, String className, String method, Throwable error) {
+        sample.stop(Timer.builder(name)
+                .tag("class", className)
+                .tag("method", method)
+                .tag("exception", error == null ? "none" : unwrap(error).getClass().getSimpleName())
+                .register(registry));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+    }
+
+    private String repositoryName(Object repository) {
+        return repositoryNames.computeIfAbsent(repository.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(repository);
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : type.getSimpleName();
+        });
+    }
+
+    // -1 when the result is not a row set (counts, booleans, streams that have not been read yet)
+    private static int resultSize(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
@@ -1,11 +1,15 @@
 package com.hotel.hotel.Model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -14,7 +18,14 @@ import jakarta.validation.constraints.Pattern;
 
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Leads with room_id for findByRoom; the dates serve the availability overlap anti-join
+        @Index(name = "idx_bookings_room_stay", columnList = "room_id, check_in_date, check_out_date"),
+        @Index(name = "idx_bookings_user", columnList = "user_id"),
+        @Index(name = "idx_bookings_check_in", columnList = "check_in_date, id"),
+        @Index(name = "idx_bookings_check_out", columnList = "check_out_date"),
+        @Index(name = "idx_bookings_number", columnList = "booking_number")})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +33,8 @@ import jakarta.validation.constraints.Pattern;
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "booking_number")
@@ -40,14 +52,24 @@ public class Booking {
     @FutureOrPresent(message = "Check-out date must be in the present or future")
     private LocalDate checkOutDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id")
     @NotNull(message = "Room is required")
     private Room room;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @NotNull(message = "User is required")
     private User user;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
 }
@@ -0,0 +1,19 @@
+package com.hotel.hotel.Model;
+
+import java.time.LocalDate;
+
+/**
+ * Published by BookingService once a booking write has committed. A deleted booking carries no dates.
+ */
+public record BookingChangedEvent(Long bookingId, Long roomId, LocalDate checkInDate, LocalDate checkOutDate,
+                                  boolean deleted) {
+
+    public static BookingChangedEvent saved(Booking booking) {
+        return new BookingChangedEvent(booking.getId(), booking.getRoom().getId(),
+                booking.getCheckInDate(), booking.getCheckOutDate(), false);
+    }
+
+    public static BookingChangedEvent deleted(Long bookingId, Long roomId) {
+        return new BookingChangedEvent(bookingId, roomId, null, null, true);
+    }
+}
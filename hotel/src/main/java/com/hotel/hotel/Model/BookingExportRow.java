@@ -0,0 +1,13 @@
+package com.hotel.hotel.Model;
+
+import java.time.LocalDate;
+
+public interface BookingExportRow {
+    Long getId();
+    String getBookingNumber();
+    Long getRoomId();
+    String getRoomNumber();
+    Long getUserId();
+    LocalDate getCheckInDate();
+    LocalDate getCheckOutDate();
+}
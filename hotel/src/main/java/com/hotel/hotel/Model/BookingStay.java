@@ -0,0 +1,10 @@
+package com.hotel.hotel.Model;
+
+import java.time.LocalDate;
+
+public interface BookingStay {
+    Long getId();
+    Long getRoomId();
+    LocalDate getCheckInDate();
+    LocalDate getCheckOutDate();
+}
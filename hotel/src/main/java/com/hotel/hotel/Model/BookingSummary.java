@@ -0,0 +1,13 @@
+package com.hotel.hotel.Model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import java.time.LocalDate;
+
+/**
+ * One row of the booking list: the booking columns plus the room number and the ids of the room and
+ * user, instead of the full associated entities.
+ */
+@JsonFilter(SparseFields.FILTER)
+public record BookingSummary(Long id, String bookingNumber, LocalDate checkInDate, LocalDate checkOutDate,
+                             Long roomId, String roomNumber, Long userId) {
+}
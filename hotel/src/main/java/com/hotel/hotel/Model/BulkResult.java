@@ -0,0 +1,37 @@
+package com.hotel.hotel.Model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkResult {
+    private int accepted;
+    private int rejected;
+    private List<Long> ids = new ArrayList<>();
+    private List<ItemError> errors = new ArrayList<>();
+
+    public void accept(Long id) {
+        accepted++;
+        ids.add(id);
+    }
+
+    public void reject(int index, String message) {
+        rejected++;
+        errors.add(new ItemError(index, message));
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemError {
+        private int index;
+        private String message;
+    }
+}
@@ -1,15 +1,24 @@
 package com.hotel.hotel.Model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "invoices")
+@Table(name = "invoices", indexes = {
+        @Index(name = "idx_invoices_user", columnList = "user_id"),
+        @Index(name = "idx_invoices_booking", columnList = "booking_id"),
+        @Index(name = "idx_invoices_status", columnList = "payment_status"),
+        @Index(name = "idx_invoices_method", columnList = "payment_method"),
+        @Index(name = "idx_invoices_date", columnList = "invoice_date, id"),
+        @Index(name = "idx_invoices_total", columnList = "total_amount")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,16 +26,17 @@ import java.time.LocalDateTime;
 public class Invoice {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invoice_seq")
+    @SequenceGenerator(name = "invoice_seq", sequenceName = "invoices_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Booking ID is required")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "booking_id", nullable = false)
     private Booking booking;
 
     @NotNull(message = "User ID is required")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -35,9 +45,11 @@ public class Invoice {
     private LocalDateTime invoiceDate;
 
     @NotNull(message = "Total amount is required")
-    @DecimalMin(value = "0.0", message = "Total amount must be positive")
-    @Column(name = "total_amount")
-    private Double totalAmount;
+    @Min(value = 0, message = "Total amount must be positive")
+    @Column(name = "total_amount", precision = 12, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private Long totalAmount;
 
     @NotNull(message = "Payment status is required")
     @Pattern(regexp = "^(PENDING|PAID|CANCELLED|REFUNDED)$", 
@@ -54,15 +66,29 @@ public class Invoice {
     @Column(name = "notes")
     private String notes;
 
-    @Column(name = "tax_amount")
-    private Double taxAmount;
+    @Column(name = "tax_amount", precision = 12, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private Long taxAmount;
 
-    @Column(name = "discount_amount")
-    private Double discountAmount;
+    @Column(name = "discount_amount", precision = 12, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private Long discountAmount;
 
     @Column(name = "payment_date")
     private LocalDateTime paymentDate;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
+
     @PrePersist
     protected void onCreate() {
         if (invoiceDate == null) {
@@ -72,10 +98,10 @@ public class Invoice {
             paymentStatus = "PENDING";
         }
         if (taxAmount == null) {
-            taxAmount = 0.0;
+            taxAmount = 0L;
         }
         if (discountAmount == null) {
-            discountAmount = 0.0;
+            discountAmount = 0L;
         }
     }
 }
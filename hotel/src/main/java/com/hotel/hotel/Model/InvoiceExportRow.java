@@ -0,0 +1,16 @@
+package com.hotel.hotel.Model;
+
+import java.time.LocalDateTime;
+
+public interface InvoiceExportRow {
+    Long getId();
+    String getBookingNumber();
+    Long getUserId();
+    LocalDateTime getInvoiceDate();
+    Long getTotalAmount();
+    Long getTaxAmount();
+    Long getDiscountAmount();
+    String getPaymentStatus();
+    String getPaymentMethod();
+    LocalDateTime getPaymentDate();
+}
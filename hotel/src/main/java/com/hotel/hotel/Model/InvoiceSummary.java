@@ -0,0 +1,14 @@
+package com.hotel.hotel.Model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the invoice list: the invoice columns plus the booking number and the ids of the
+ * booking and user, instead of the full booking graph.
+ */
+@JsonFilter(SparseFields.FILTER)
+public record InvoiceSummary(Long id, Long bookingId, String bookingNumber, Long userId, LocalDateTime invoiceDate,
+                             @MoneyJson Long totalAmount, @MoneyJson Long taxAmount, @MoneyJson Long discountAmount,
+                             String paymentStatus, String paymentMethod, LocalDateTime paymentDate) {
+}
@@ -0,0 +1,14 @@
+package com.hotel.hotel.Model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface InvoiceSums {
+    LocalDate getRevenueDate();
+    String getPaymentMethod();
+    String getPaymentStatus();
+    long getInvoiceCount();
+    BigDecimal getTotalAmount();
+    BigDecimal getTaxAmount();
+    BigDecimal getDiscountAmount();
+}
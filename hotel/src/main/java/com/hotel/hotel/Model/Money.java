@@ -0,0 +1,80 @@
+package com.hotel.hotel.Model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money is held as a primitive {@code long} count of minor units (cents), so totals add up exactly
+ * and summing them allocates nothing. Amounts become decimals only at the edges: the database
+ * column through {@link MoneyConverter} and JSON through {@link MoneyJson}.
+ */
+public final class Money {
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    // Rounds half up to whole cents, as the old double arithmetic did
+    public static long of(BigDecimal amount) {
+        try {
+            return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount out of range: " + amount);
+        }
+    }
+
+    public static long of(String amount) {
+        try {
+            return of(new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount: " + amount);
+        }
+    }
+
+    public static Long ofNullable(BigDecimal amount) {
+        return amount != null ? of(amount) : null;
+    }
+
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long orZero(Long cents) {
+        return cents != null ? cents : 0L;
+    }
+
+    public static long total(long base, long tax, long discount) {
+        return Math.subtractExact(Math.addExact(base, tax), discount);
+    }
+
+    // Scales by a rate such as a tax rate or a price uplift and rounds half up to the cent. The rate is
+    // taken at its shortest decimal form, so 0.50 * 1.15 is 0.58 and not the 0.57 double arithmetic gives
+    public static long times(long cents, double factor) {
+        return round(BigDecimal.valueOf(cents).multiply(BigDecimal.valueOf(factor)));
+    }
+
+    // cents / count rounded half up to the cent, e.g. revenue per room night
+    public static long divide(long cents, long count) {
+        return count == 0 ? 0L : round(BigDecimal.valueOf(cents).divide(BigDecimal.valueOf(count), 0, RoundingMode.HALF_UP));
+    }
+
+    private static long round(BigDecimal cents) {
+        try {
+            return cents.setScale(0, RoundingMode.HALF_UP).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount out of range: " + cents);
+        }
+    }
+
+    public static long sum(long[] cents, int from, int to) {
+        long sum = 0L;
+        for (int i = from; i < to; i++) {
+            sum += cents[i];
+        }
+        return sum;
+    }
+
+    public static String format(long cents) {
+        return toDecimal(cents).toPlainString();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hotel.hotel.Model;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a cents amount that clients see as a decimal: {@code 12550} is written as {@code 125.50},
+ * and {@code 125.5} or {@code "125.50"} is read back as {@code 12550}. The API keeps the decimal
+ * amounts it always had.
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@JacksonAnnotationsInside
+@JsonSerialize(using = MoneyJson.Writer.class)
+@JsonDeserialize(using = MoneyJson.Reader.class)
+public @interface MoneyJson {
+
+    class Writer extends StdSerializer<Long> {
+        public Writer() {
+            super(Long.class);
+        }
+
+        // Text formats get the two-decimal form; binary ones such as Smile get a double, which they
+        // read back as the same value JSON clients see rather than a scaled 2.5E+2 BigDecimal
+        public static void write(long cents, JsonGenerator json) throws IOException {
+            if (json.canWriteFormattedNumbers()) {
+                json.writeNumber(Money.format(cents));
+            } else {
+                json.writeNumber(cents / 100.0);
+            }
+        }
+
+        @Override
+        public void serialize(Long cents, JsonGenerator json, SerializerProvider provider) throws IOException {
+            write(cents, json);
+        }
+    }
+
+    // For per-night amounts kept in a primitive array
+    class ArrayWriter extends StdSerializer<long[]> {
+        public ArrayWriter() {
+            super(long[].class);
+        }
+
+        @Override
+        public void serialize(long[] cents, JsonGenerator json, SerializerProvider provider) throws IOException {
+            json.writeStartArray(cents, cents.length);
+            for (long amount : cents) {
+                Writer.write(amount, json);
+            }
+            json.writeEndArray();
+        }
+    }
+
+    class Reader extends StdDeserializer<Long> {
+        public Reader() {
+            super(Long.class);
+        }
+
+        @Override
+        public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            try {
+                return parser.currentToken().isNumeric() ? Money.of(parser.getDecimalValue()) : Money.of(parser.getText());
+            } catch (IllegalArgumentException e) {
+                return (Long) context.handleWeirdStringValue(Long.class, parser.getText(), e.getMessage());
+            }
+        }
+    }
+}
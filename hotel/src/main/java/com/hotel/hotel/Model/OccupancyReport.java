@@ -0,0 +1,8 @@
+package com.hotel.hotel.Model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OccupancyReport(LocalDate startDate, LocalDate endDate, String groupBy,
+                              List<OccupancyRow> rows, OccupancyRow total) {
+}
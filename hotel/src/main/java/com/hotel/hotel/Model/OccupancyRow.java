@@ -0,0 +1,5 @@
+package com.hotel.hotel.Model;
+
+public record OccupancyRow(String group, long availableRoomNights, long soldRoomNights, @MoneyJson long revenue,
+                           double occupancyRate, @MoneyJson long adr, @MoneyJson long revPar) {
+}
@@ -0,0 +1,8 @@
+package com.hotel.hotel.Model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.time.LocalDate;
+
+public record PriceQuote(Long roomId, LocalDate checkInDate, LocalDate checkOutDate, int nights,
+                         @JsonSerialize(using = MoneyJson.ArrayWriter.class) long[] nightlyRates, @MoneyJson long total) {
+}
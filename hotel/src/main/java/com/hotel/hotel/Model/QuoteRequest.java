@@ -0,0 +1,30 @@
+package com.hotel.hotel.Model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Quotes either the listed rooms or every room matching the search filters.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuoteRequest {
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private List<Long> roomIds;
+    @MoneyJson
+    private Long minPrice;
+    @MoneyJson
+    private Long maxPrice;
+    private Integer minCapacity;
+    private String roomType;
+    private String smokingAllowed;
+    private Integer floorNumber;
+    private boolean availableOnly;
+    @MoneyJson
+    private Long discountAmount;
+}
@@ -0,0 +1,109 @@
+package com.hotel.hotel.Model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Invoice totals for one day, payment method and payment status. Rows are kept current by
+ * {@code InvoiceService} in the same transaction as the invoice write, so revenue reports never
+ * have to scan the invoices table. Amounts are cents, see {@link Money}.
+ */
+@Entity
+@Table(name = "revenue_rollups")
+@IdClass(RevenueRollup.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollup {
+    // Stand in for a missing payment method or status so the (day, method, status) key never contains NULL
+    public static final String NO_PAYMENT_METHOD = "NONE";
+    public static final String NO_PAYMENT_STATUS = "NONE";
+
+    @Id
+    @Column(name = "revenue_date")
+    private LocalDate day;
+
+    @Id
+    @Column(name = "payment_method", length = 20)
+    private String paymentMethod;
+
+    @Id
+    @Column(name = "payment_status", length = 20)
+    private String paymentStatus;
+
+    @Column(name = "invoice_count", nullable = false)
+    private long invoiceCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private long totalAmount;
+
+    @Column(name = "tax_amount", nullable = false, precision = 14, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private long taxAmount;
+
+    @Column(name = "discount_amount", nullable = false, precision = 14, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private long discountAmount;
+
+    // The contribution of one invoice: sign is +1 when it is added and -1 when it is taken away.
+    // Null for an invoice without a date, which the rebuild does not count either
+    public static RevenueRollup of(Invoice invoice, int sign) {
+        Key key = keyOf(invoice.getInvoiceDate(), invoice.getPaymentMethod(), invoice.getPaymentStatus());
+        if (key == null) {
+            return null;
+        }
+        return new RevenueRollup(key.getDay(), key.getPaymentMethod(), key.getPaymentStatus(), sign,
+                sign * Money.orZero(invoice.getTotalAmount()),
+                sign * Money.orZero(invoice.getTaxAmount()),
+                sign * Money.orZero(invoice.getDiscountAmount()));
+    }
+
+    public static Key keyOf(LocalDateTime invoiceDate, String paymentMethod, String paymentStatus) {
+        if (invoiceDate == null) {
+            return null;
+        }
+        return new Key(invoiceDate.toLocalDate(),
+                paymentMethod != null ? paymentMethod : NO_PAYMENT_METHOD,
+                paymentStatus != null ? paymentStatus : NO_PAYMENT_STATUS);
+    }
+
+    public Key key() {
+        return new Key(day, paymentMethod, paymentStatus);
+    }
+
+    public void add(RevenueRollup other) {
+        add(other.invoiceCount, other.totalAmount, other.taxAmount, other.discountAmount);
+    }
+
+    // Amounts are cents, so a day of invoices sums exactly whatever order they arrive in
+    public void add(long invoices, long total, long tax, long discount) {
+        invoiceCount += invoices;
+        totalAmount += total;
+        taxAmount += tax;
+        discountAmount += discount;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private String paymentMethod;
+        private String paymentStatus;
+    }
+}
@@ -1,14 +1,23 @@
 package com.hotel.hotel.Model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.time.Instant;
 import jakarta.validation.constraints.*;
 
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+        @Index(name = "idx_rooms_type", columnList = "room_type"),
+        @Index(name = "idx_rooms_status", columnList = "room_status"),
+        @Index(name = "idx_rooms_price", columnList = "price_per_night"),
+        @Index(name = "idx_rooms_floor", columnList = "floor_number")})
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,10 +45,12 @@ public class Room {
     private Integer capacity;
 
     @NotNull(message = "Price per night is required")
-    @DecimalMin(value = "100.0", message = "Price per night must be at least 100")
-    @DecimalMax(value = "10000.0", message = "Price per night cannot exceed 10000")
-    @Column(name = "price_per_night")
-    private Double pricePerNight;
+    @Min(value = 10000, message = "Price per night must be at least 100")
+    @Max(value = 1000000, message = "Price per night cannot exceed 10000")
+    @Column(name = "price_per_night", precision = 12, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    @MoneyJson
+    private Long pricePerNight;
 
     @NotBlank(message = "Room status is required")
     @Pattern(regexp = "^(AVAILABLE|OCCUPIED|MAINTENANCE|RESERVED)$", 
@@ -60,4 +71,14 @@ public class Room {
     @Max(value = 20, message = "Floor number cannot exceed 20")
     @Column(name = "floor_number")
     private Integer floorNumber;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    @UpdateTimestamp
+    @Column(name = "last_modified")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant lastModified;
 }
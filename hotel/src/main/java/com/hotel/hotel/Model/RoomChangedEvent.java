@@ -0,0 +1,15 @@
+package com.hotel.hotel.Model;
+
+/**
+ * Published by RoomService after a room is created, updated or deleted.
+ */
+public record RoomChangedEvent(Long roomId, String roomNumber, String roomStatus, boolean deleted) {
+
+    public static RoomChangedEvent saved(Room room) {
+        return new RoomChangedEvent(room.getId(), room.getRoomNumber(), room.getRoomStatus(), false);
+    }
+
+    public static RoomChangedEvent deleted(Room room) {
+        return new RoomChangedEvent(room.getId(), room.getRoomNumber(), room.getRoomStatus(), true);
+    }
+}
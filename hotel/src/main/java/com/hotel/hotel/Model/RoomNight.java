@@ -0,0 +1,38 @@
+package com.hotel.hotel.Model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * One row per room per booked night. The unique (room_id, night) constraint is the database-level
+ * guard against double bookings, independent of any in-process state.
+ */
+@Entity
+@Table(name = "room_nights",
+        uniqueConstraints = @UniqueConstraint(name = "uk_room_nights_room_night", columnNames = {"room_id", "night"}),
+        indexes = @Index(name = "idx_room_nights_booking", columnList = "booking_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomNight {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_night_seq")
+    @SequenceGenerator(name = "room_night_seq", sequenceName = "room_nights_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "night", nullable = false)
+    private LocalDate night;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+}
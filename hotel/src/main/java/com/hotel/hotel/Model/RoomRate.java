@@ -0,0 +1,8 @@
+package com.hotel.hotel.Model;
+
+public interface RoomRate {
+    Long getId();
+    Integer getFloorNumber();
+    String getRoomType();
+    Long getPricePerNight();
+}
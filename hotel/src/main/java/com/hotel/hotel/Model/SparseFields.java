@@ -0,0 +1,48 @@
+package com.hotel.hotel.Model;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies a {@code ?fields=a,b} parameter to a response whose rows are {@code @JsonFilter}-annotated
+ * summary records. The id is always kept so clients can still key the rows. Without the parameter
+ * every field is written.
+ */
+public final class SparseFields {
+    public static final String FILTER = "sparseFields";
+
+    private static final Map<Class<?>, Set<String>> FIELDS = new ConcurrentHashMap<>();
+
+    private SparseFields() {
+    }
+
+    public static Object select(Object body, String fields, Class<? extends Record> rowType) {
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        Set<String> allowed = FIELDS.computeIfAbsent(rowType, type -> Set.copyOf(Arrays.stream(type.getRecordComponents())
+                .map(RecordComponent::getName).toList()));
+        Set<String> selected = new HashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            selected.add(name);
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+        return value;
+    }
+}
@@ -0,0 +1,5 @@
+package com.hotel.hotel.Model;
+
+public record StayQuote(Long roomId, int nights, @MoneyJson long subtotal, @MoneyJson long taxAmount,
+                        @MoneyJson long discountAmount, @MoneyJson long totalAmount) {
+}
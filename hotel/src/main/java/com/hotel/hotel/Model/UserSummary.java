@@ -0,0 +1,11 @@
+package com.hotel.hotel.Model;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+/**
+ * One row of the user list. The password hash is never selected.
+ */
+@JsonFilter(SparseFields.FILTER)
+public record UserSummary(Long id, String firstName, String lastName, String email, String phoneNumber,
+                          String address, String userRole) {
+}
@@ -0,0 +1,28 @@
+package com.hotel.hotel.Model;
+
+import java.time.Instant;
+
+/**
+ * What a conditional GET is checked against, read with one aggregate query instead of the rows:
+ * the row count, highest id and sum of row versions, plus the newest modification time. Versions
+ * only grow and ids are never reused, so any insert, update or delete changes the tag.
+ */
+public record VersionStamp(long rows, String tag, Instant lastModified) {
+
+    public VersionStamp(Long rows, Long maxId, Long versionSum, Instant lastModified) {
+        this(rows, rows + "." + maxId + "." + versionSum, lastModified);
+    }
+
+    // For responses that also show columns of another table
+    public VersionStamp and(VersionStamp other) {
+        Instant newest = lastModified == null || (other.lastModified != null && other.lastModified.isAfter(lastModified))
+                ? other.lastModified : lastModified;
+        return new VersionStamp(rows, tag + "-" + other.tag, newest);
+    }
+
+    // Weak, because the same state is served as JSON or Smile and gzipped or not; a strong ETag
+    // would also stop Tomcat from compressing the response
+    public String etag() {
+        return "W/\"" + tag + "\"";
+    }
+}
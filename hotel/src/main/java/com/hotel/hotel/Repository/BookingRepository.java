@@ -1,11 +1,23 @@
 package com.hotel.hotel.Repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.stereotype.Repository;
 import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.BookingExportRow;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Model.BookingSummary;
+import com.hotel.hotel.Model.VersionStamp;
 import java.util.Optional;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 import com.hotel.hotel.Model.Room;
 import com.hotel.hotel.Model.User;
 
@@ -17,4 +29,43 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByCheckOutDateBetween(LocalDate startDate, LocalDate endDate);
     List<Booking> findByRoom(Room room);
     List<Booking> findByUser(User user);
+
+    // Reads that end up in a response load room and user in the same select; everything else stays lazy
+    @Override
+    @EntityGraph(attributePaths = {"room", "user"})
+    Optional<Booking> findById(Long id);
+
+    @Query("select b.id as id, b.room.id as roomId, b.checkInDate as checkInDate, b.checkOutDate as checkOutDate from Booking b")
+    List<BookingStay> findAllStays();
+
+    String SUMMARY = "select new com.hotel.hotel.Model.BookingSummary(b.id, b.bookingNumber, b.checkInDate, "
+            + "b.checkOutDate, r.id, r.roomNumber, b.user.id) from Booking b join b.room r ";
+
+    @Query(SUMMARY + "where b.id > :id order by b.id")
+    List<BookingSummary> findSummariesAfterId(Long id, Pageable pageable);
+
+    @Query(SUMMARY + "where b.checkInDate is not null order by b.checkInDate, b.id")
+    List<BookingSummary> findSummariesByCheckInDate(Pageable pageable);
+
+    @Query(SUMMARY + "where b.checkInDate > :checkInDate or (b.checkInDate = :checkInDate and b.id > :id) order by b.checkInDate, b.id")
+    List<BookingSummary> findSummariesAfterCheckInDate(LocalDate checkInDate, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select b.id as id, b.bookingNumber as bookingNumber, r.id as roomId, r.roomNumber as roomNumber, "
+            + "b.user.id as userId, b.checkInDate as checkInDate, b.checkOutDate as checkOutDate "
+            + "from Booking b join b.room r where b.checkInDate between :startDate and :endDate order by b.checkInDate, b.id")
+    Stream<BookingExportRow> streamExportRows(LocalDate startDate, LocalDate endDate);
+
+    @Query("select b.id from Booking b where b.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select new com.hotel.hotel.Model.VersionStamp(count(b), coalesce(max(b.id), 0L), "
+            + "coalesce(sum(b.version), 0L), max(b.lastModified)) from Booking b")
+    VersionStamp findVersionStamp();
+
+    // A single booking is returned with its room and user, so their versions count too
+    @Query("select new com.hotel.hotel.Model.VersionStamp(count(b), coalesce(max(b.id), 0L), "
+            + "coalesce(sum(b.version + r.version + u.version), 0L), max(b.lastModified)) "
+            + "from Booking b join b.room r join b.user u where b.id = :id")
+    VersionStamp findVersionStampById(Long id);
 }
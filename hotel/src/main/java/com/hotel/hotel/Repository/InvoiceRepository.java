@@ -1,18 +1,83 @@
 package com.hotel.hotel.Repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.stereotype.Repository;
 import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.InvoiceExportRow;
+import com.hotel.hotel.Model.InvoiceSummary;
+import com.hotel.hotel.Model.VersionStamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
+    // Every invoice read feeds a response, so the whole booking graph comes back in one select
+    @Override
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
+    Optional<Invoice> findById(Long id);
+
+    // These filter on the invoice's own foreign key so idx_invoices_user and idx_invoices_booking
+    // are used; derived queries compared the fetched row's primary key and scanned invoices
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
+    @Query("select i from Invoice i where i.user.id = :userId")
     List<Invoice> findByUserId(Long userId);
+
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
+    @Query("select i from Invoice i where i.booking.id = :bookingId")
     List<Invoice> findByBookingId(Long bookingId);
+
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
     List<Invoice> findByPaymentStatus(String status);
+
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
     List<Invoice> findByPaymentMethod(String method);
+
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
     List<Invoice> findByInvoiceDateBetween(LocalDateTime startDate, LocalDateTime endDate);
-    List<Invoice> findByTotalAmountBetween(Double minAmount, Double maxAmount);
-}
 
+    @EntityGraph(attributePaths = {"booking", "booking.room", "booking.user", "user"})
+    List<Invoice> findByTotalAmountBetween(Long minAmount, Long maxAmount);
+
+    String SUMMARY = "select new com.hotel.hotel.Model.InvoiceSummary(i.id, b.id, b.bookingNumber, i.user.id, "
+            + "i.invoiceDate, i.totalAmount, i.taxAmount, i.discountAmount, i.paymentStatus, i.paymentMethod, "
+            + "i.paymentDate) from Invoice i join i.booking b ";
+
+    @Query(SUMMARY + "where i.id > :id order by i.id")
+    List<InvoiceSummary> findSummariesAfterId(Long id, Pageable pageable);
+
+    @Query(SUMMARY + "where i.invoiceDate is not null order by i.invoiceDate, i.id")
+    List<InvoiceSummary> findSummariesByInvoiceDate(Pageable pageable);
+
+    @Query(SUMMARY + "where i.invoiceDate > :invoiceDate or (i.invoiceDate = :invoiceDate and i.id > :id) order by i.invoiceDate, i.id")
+    List<InvoiceSummary> findSummariesAfterInvoiceDate(LocalDateTime invoiceDate, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select i.id as id, b.bookingNumber as bookingNumber, i.user.id as userId, i.invoiceDate as invoiceDate, "
+            + "i.totalAmount as totalAmount, i.taxAmount as taxAmount, i.discountAmount as discountAmount, "
+            + "i.paymentStatus as paymentStatus, i.paymentMethod as paymentMethod, i.paymentDate as paymentDate "
+            + "from Invoice i join i.booking b where i.invoiceDate between :startDate and :endDate order by i.invoiceDate, i.id")
+    Stream<InvoiceExportRow> streamExportRows(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("select new com.hotel.hotel.Model.VersionStamp(count(i), coalesce(max(i.id), 0L), "
+            + "coalesce(sum(i.version), 0L), max(i.lastModified)) from Invoice i")
+    VersionStamp findVersionStamp();
+
+    // Full invoices carry the booking graph, so every row in it counts towards the version
+    String GRAPH_VERSION_STAMP = "select new com.hotel.hotel.Model.VersionStamp(count(i), coalesce(max(i.id), 0L), "
+            + "coalesce(sum(i.version + b.version + r.version + bu.version + u.version), 0L), max(i.lastModified)) "
+            + "from Invoice i join i.booking b join b.room r join b.user bu join i.user u ";
+
+    @Query(GRAPH_VERSION_STAMP + "where i.id = :id")
+    VersionStamp findVersionStampById(Long id);
+
+    @Query(GRAPH_VERSION_STAMP + "where u.id = :userId")
+    VersionStamp findVersionStampByUserId(Long userId);
+}
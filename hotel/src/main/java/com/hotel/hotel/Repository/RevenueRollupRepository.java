@@ -0,0 +1,47 @@
+package com.hotel.hotel.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import com.hotel.hotel.Model.InvoiceSums;
+import com.hotel.hotel.Model.RevenueRollup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, RevenueRollup.Key> {
+
+    // A single atomic statement, so concurrent invoice writes on the same key never lose an update
+    @Modifying
+    @Query(value = "insert into revenue_rollups (revenue_date, payment_method, payment_status, invoice_count, "
+            + "total_amount, tax_amount, discount_amount) values (:day, :paymentMethod, :paymentStatus, :invoiceCount, "
+            + ":totalAmount, :taxAmount, :discountAmount) on duplicate key update "
+            + "invoice_count = invoice_count + :invoiceCount, total_amount = total_amount + :totalAmount, "
+            + "tax_amount = tax_amount + :taxAmount, discount_amount = discount_amount + :discountAmount",
+            nativeQuery = true)
+    int addTo(LocalDate day, String paymentMethod, String paymentStatus, long invoiceCount,
+              BigDecimal totalAmount, BigDecimal taxAmount, BigDecimal discountAmount);
+
+    List<RevenueRollup> findByDayBetweenOrderByDayAscPaymentMethodAscPaymentStatusAsc(LocalDate startDate, LocalDate endDate);
+
+    // Grouped in the database so a chunk returns one row per key, not one per invoice; the decimal
+    // sums are exact and become cents in the caller
+    @Query(value = "select cast(i.invoice_date as date) as revenueDate, "
+            + "coalesce(i.payment_method, '" + RevenueRollup.NO_PAYMENT_METHOD + "') as paymentMethod, "
+            + "coalesce(i.payment_status, '" + RevenueRollup.NO_PAYMENT_STATUS + "') as paymentStatus, "
+            + "count(*) as invoiceCount, coalesce(sum(i.total_amount), 0) as totalAmount, "
+            + "coalesce(sum(i.tax_amount), 0) as taxAmount, coalesce(sum(i.discount_amount), 0) as discountAmount "
+            + "from invoices i where i.id between :fromId and :toId and i.invoice_date is not null "
+            + "group by cast(i.invoice_date as date), coalesce(i.payment_method, '" + RevenueRollup.NO_PAYMENT_METHOD + "'), "
+            + "coalesce(i.payment_status, '" + RevenueRollup.NO_PAYMENT_STATUS + "')",
+            nativeQuery = true)
+    List<InvoiceSums> aggregateInvoices(Long fromId, Long toId);
+
+    @Query("select min(i.id) from Invoice i")
+    Long findMinInvoiceId();
+
+    @Query("select max(i.id) from Invoice i")
+    Long findMaxInvoiceId();
+}
@@ -0,0 +1,22 @@
+package com.hotel.hotel.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Model.RoomNight;
+import java.util.List;
+
+@Repository
+public interface RoomNightRepository extends JpaRepository<RoomNight, Long> {
+    long countByRoomId(Long roomId);
+
+    @Modifying
+    @Query("delete from RoomNight n where n.bookingId = :bookingId")
+    int deleteByBookingId(Long bookingId);
+
+    @Query("select b.id as id, b.room.id as roomId, b.checkInDate as checkInDate, b.checkOutDate as checkOutDate "
+            + "from Booking b where not exists (select n.id from RoomNight n where n.bookingId = b.id)")
+    List<BookingStay> findStaysWithoutNights();
+}
@@ -1,17 +1,39 @@
 package com.hotel.hotel.Repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.RoomRate;
+import com.hotel.hotel.Model.VersionStamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RoomRepository extends JpaRepository<Room, Long> {
+public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificationExecutor<Room> {
     List<Room> findByRoomType(String roomType);
     List<Room> findByRoomStatus(String status);
     Optional<Room> findByRoomNumber(String roomNumber);
-    List<Room> findByPricePerNightBetween(Double minPrice, Double maxPrice);
+    List<Room> findByPricePerNightBetween(Long minPrice, Long maxPrice);
     List<Room> findByCapacityGreaterThanEqual(Integer capacity);
     List<Room> findByFloorNumber(Integer floorNumber);
+    List<Room> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select r.id from Room r where r.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select r.id as id, r.floorNumber as floorNumber, r.roomType as roomType, r.pricePerNight as pricePerNight from Room r")
+    List<RoomRate> findAllRates();
+
+    String VERSION_STAMP = "select new com.hotel.hotel.Model.VersionStamp(count(r), coalesce(max(r.id), 0L), "
+            + "coalesce(sum(r.version), 0L), max(r.lastModified)) from Room r ";
+
+    @Query(VERSION_STAMP)
+    VersionStamp findVersionStamp();
+
+    @Query(VERSION_STAMP + "where r.id = :id")
+    VersionStamp findVersionStampById(Long id);
 }
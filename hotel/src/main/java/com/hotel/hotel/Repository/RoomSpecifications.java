@@ -0,0 +1,67 @@
+package com.hotel.hotel.Repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.time.LocalDate;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Room;
+
+public final class RoomSpecifications {
+
+    private RoomSpecifications() {
+    }
+
+    public static Specification<Room> matchesFilters(Long minPrice, Long maxPrice, Integer minCapacity,
+                                                     String roomType, String smokingAllowed, Integer floorNumber) {
+        return Specification.where(minPrice(minPrice))
+                .and(maxPrice(maxPrice))
+                .and(minCapacity(minCapacity))
+                .and(roomType(roomType))
+                .and(smokingAllowed(smokingAllowed))
+                .and(floorNumber(floorNumber));
+    }
+
+    public static Specification<Room> minPrice(Long minPrice) {
+        return (room, query, cb) -> minPrice == null ? null
+                : cb.greaterThanOrEqualTo(room.get("pricePerNight"), minPrice);
+    }
+
+    public static Specification<Room> maxPrice(Long maxPrice) {
+        return (room, query, cb) -> maxPrice == null ? null
+                : cb.lessThanOrEqualTo(room.get("pricePerNight"), maxPrice);
+    }
+
+    public static Specification<Room> minCapacity(Integer minCapacity) {
+        return (room, query, cb) -> minCapacity == null ? null
+                : cb.greaterThanOrEqualTo(room.get("capacity"), minCapacity);
+    }
+
+    public static Specification<Room> roomType(String roomType) {
+        return (room, query, cb) -> roomType == null ? null
+                : cb.equal(room.get("roomType"), roomType.toUpperCase());
+    }
+
+    public static Specification<Room> smokingAllowed(String smokingAllowed) {
+        return (room, query, cb) -> smokingAllowed == null ? null
+                : cb.equal(room.get("smokingAllowed"), smokingAllowed.toUpperCase());
+    }
+
+    public static Specification<Room> floorNumber(Integer floorNumber) {
+        return (room, query, cb) -> floorNumber == null ? null
+                : cb.equal(room.get("floorNumber"), floorNumber);
+    }
+
+    // Anti-join: no booking on the room overlaps [checkIn, checkOut)
+    public static Specification<Room> freeBetween(LocalDate checkIn, LocalDate checkOut) {
+        return (room, query, cb) -> {
+            Subquery<Long> overlapping = query.subquery(Long.class);
+            Root<Booking> booking = overlapping.from(Booking.class);
+            overlapping.select(booking.get("id"))
+                    .where(cb.equal(booking.get("room"), room),
+                            cb.lessThan(booking.get("checkInDate"), checkOut),
+                            cb.greaterThan(booking.get("checkOutDate"), checkIn));
+            return cb.not(cb.exists(overlapping));
+        };
+    }
+}
@@ -1,8 +1,13 @@
 package com.hotel.hotel.Repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Model.UserSummary;
+import com.hotel.hotel.Model.VersionStamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +16,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     List<User> findByUserRole(String role);
-    
+
+    // Spring Data selects only the UserSummary constructor columns
+    List<UserSummary> findSummariesByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    String VERSION_STAMP = "select new com.hotel.hotel.Model.VersionStamp(count(u), coalesce(max(u.id), 0L), "
+            + "coalesce(sum(u.version), 0L), max(u.lastModified)) from User u ";
+
+    @Query(VERSION_STAMP)
+    VersionStamp findVersionStamp();
+
+    @Query(VERSION_STAMP + "where u.id = :id")
+    VersionStamp findVersionStampById(Long id);
 }
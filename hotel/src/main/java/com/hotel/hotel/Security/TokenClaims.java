@@ -0,0 +1,6 @@
+package com.hotel.hotel.Security;
+
+import java.time.Instant;
+
+public record TokenClaims(Long userId, String role, Instant expiresAt, String tokenId) {
+}
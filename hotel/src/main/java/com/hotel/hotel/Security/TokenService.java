@@ -0,0 +1,106 @@
+package com.hotel.hotel.Security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.hotel.hotel.Model.User;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed session tokens of the form {@code payload.signature}.
+ * Verification is local and costs one HMAC, so BCrypt only runs at login. Revoked token ids are
+ * remembered until the token would have expired anyway.
+ */
+@Component
+public class TokenService {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+    private final ConcurrentMap<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public TokenService(@Value("${hotel.auth.token-secret}") String secret,
+                        @Value("${hotel.auth.token-ttl:PT8H}") Duration ttl) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("hotel.auth.token-secret must be at least 32 characters");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.ttl = ttl;
+        this.clock = Clock.systemUTC();
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(User user) {
+        Instant expiresAt = clock.instant().plus(ttl);
+        String payload = user.getId() + "|" + user.getUserRole() + "|" + expiresAt.getEpochSecond() + "|" + UUID.randomUUID();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            String encodedPayload = token.substring(0, dot);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return Optional.empty();
+            }
+            String[] parts = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+            TokenClaims claims = new TokenClaims(Long.valueOf(parts[0]), parts[1],
+                    Instant.ofEpochSecond(Long.parseLong(parts[2])), parts[3]);
+            if (!claims.expiresAt().isAfter(clock.instant()) || revoked.containsKey(claims.tokenId())) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void revoke(String token) {
+        verify(token).ifPresent(claims -> revoked.put(claims.tokenId(), claims.expiresAt()));
+        Instant now = clock.instant();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Repository.BookingRepository;
+
+/**
+ * In-memory per-room calendar of booked stays, kept in sync by BookingService so that
+ * conflict checks and availability lookups never need a query.
+ */
+@Component
+public class AvailabilityIndex {
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final ConcurrentMap<Long, RoomCalendar> calendars = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Stay> stays = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<BookingStay> bookings = bookingRepository.findAllStays();
+        calendars.clear();
+        stays.clear();
+        for (BookingStay booking : bookings) {
+            add(booking.getId(), booking.getRoomId(), booking.getCheckInDate(), booking.getCheckOutDate());
+        }
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        return findConflict(roomId, checkIn, checkOut, null) == null;
+    }
+
+    /**
+     * Returns the id of a booking on the room overlapping [checkIn, checkOut), or null if the
+     * room is free. The booking with id {@code ignoredBookingId} is skipped so updates do not
+     * conflict with themselves.
+     */
+    public Long findConflict(Long roomId, LocalDate checkIn, LocalDate checkOut, Long ignoredBookingId) {
+        RoomCalendar calendar = calendars.get(roomId);
+        if (calendar == null) {
+            return null;
+        }
+        return calendar.findConflict(checkIn.toEpochDay(), checkOut.toEpochDay(), ignoredBookingId);
+    }
+
+    public void add(Long bookingId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (bookingId == null || roomId == null || checkIn == null || checkOut == null) {
+            return;
+        }
+        remove(bookingId);
+        Stay stay = new Stay(bookingId, roomId, checkIn.toEpochDay(), checkOut.toEpochDay());
+        stays.put(bookingId, stay);
+        calendars.computeIfAbsent(roomId, id -> new RoomCalendar()).add(stay);
+    }
+
+    public void remove(Long bookingId) {
+        Stay stay = stays.remove(bookingId);
+        if (stay != null) {
+            RoomCalendar calendar = calendars.get(stay.roomId());
+            if (calendar != null) {
+                calendar.remove(stay);
+            }
+        }
+    }
+
+    public void removeRoom(Long roomId) {
+        RoomCalendar calendar = calendars.remove(roomId);
+        if (calendar != null) {
+            stays.values().removeIf(stay -> stay.roomId().equals(roomId));
+        }
+    }
+
+    public int size() {
+        return stays.size();
+    }
+
+    /**
+     * Compares the index against the bookings table and reports bookings that are missing from
+     * the index, stale entries the table no longer has, and entries whose room or dates differ.
+     */
+    public Map<String, Object> verify() {
+        List<Long> missing = new ArrayList<>();
+        List<Long> mismatched = new ArrayList<>();
+        Map<Long, Boolean> seen = new HashMap<>();
+        for (BookingStay booking : bookingRepository.findAllStays()) {
+            if (booking.getRoomId() == null || booking.getCheckInDate() == null || booking.getCheckOutDate() == null) {
+                continue;
+            }
+            seen.put(booking.getId(), Boolean.TRUE);
+            Stay stay = stays.get(booking.getId());
+            if (stay == null) {
+                missing.add(booking.getId());
+            } else if (!stay.roomId().equals(booking.getRoomId())
+                    || stay.start() != booking.getCheckInDate().toEpochDay()
+                    || stay.end() != booking.getCheckOutDate().toEpochDay()) {
+                mismatched.add(booking.getId());
+            }
+        }
+        List<Long> stale = new ArrayList<>();
+        for (Long bookingId : stays.keySet()) {
+            if (!seen.containsKey(bookingId)) {
+                stale.add(bookingId);
+            }
+        }
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("consistent", missing.isEmpty() && stale.isEmpty() && mismatched.isEmpty());
+        report.put("indexedBookings", stays.size());
+        report.put("databaseBookings", seen.size());
+        report.put("missing", missing);
+        report.put("stale", stale);
+        report.put("mismatched", mismatched);
+        return report;
+    }
+
+    private record Stay(Long bookingId, Long roomId, long start, long end) {
+    }
+
+    private static class RoomCalendar {
+        private static final Comparator<Stay> ORDER =
+                Comparator.comparingLong(Stay::start).thenComparing(Stay::bookingId);
+
+        private final NavigableSet<Stay> stays = new TreeSet<>(ORDER);
+        private long longestStay;
+
+        synchronized void add(Stay stay) {
+            stays.add(stay);
+            longestStay = Math.max(longestStay, stay.end() - stay.start());
+        }
+
+        synchronized void remove(Stay stay) {
+            stays.remove(stay);
+        }
+
+        synchronized Long findConflict(long start, long end, Long ignoredBookingId) {
+            // Only stays starting within longestStay days before the range can still be running at its start
+            Stay from = new Stay(Long.MIN_VALUE, null, start - longestStay, 0);
+            Stay to = new Stay(Long.MIN_VALUE, null, end, 0);
+            for (Stay stay : stays.subSet(from, true, to, false)) {
+                if (stay.end() > start && !stay.bookingId().equals(ignoredBookingId)) {
+                    return stay.bookingId();
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -1,19 +1,101 @@
 package com.hotel.hotel.Service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.BookingChangedEvent;
+import com.hotel.hotel.Model.BookingSummary;
+import com.hotel.hotel.Model.BulkResult;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Model.CursorPage;
+import com.hotel.hotel.Model.PageCursor;
+import com.hotel.hotel.Model.VersionStamp;
 import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
 
 @Service
 public class BookingService {
     @Autowired
     private BookingRepository bookingRepository;
 
-    public List<Booking> getAllBookings() {
-        return bookingRepository.findAll();
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoomLocks roomLocks;
+
+    @Autowired
+    private RoomNightLedger roomNightLedger;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityValidator entityValidator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private static final String MISSING_REFERENCE = "Booking references a room or user that does not exist";
+
+    @Value("${hotel.bulk.batch-size:50}")
+    private int batchSize;
+
+    @Value("${hotel.bulk.max-items:10000}")
+    private int maxBulkItems;
+
+    public CursorPage<BookingSummary> getBookings(String cursor, int size, String sort) {
+        KeysetPages.validateSize(size);
+        if ("checkInDate".equals(sort)) {
+            PageCursor after = cursor == null ? null : PageCursor.parse(cursor, sort);
+            List<BookingSummary> rows = after == null
+                    ? bookingRepository.findSummariesByCheckInDate(KeysetPages.probe(size))
+                    : bookingRepository.findSummariesAfterCheckInDate(after.dateKey(), after.id(), KeysetPages.probe(size));
+            return KeysetPages.page(rows, size,
+                    booking -> new PageCursor(sort, booking.checkInDate().toString(), booking.id()));
+        }
+        if ("id".equals(sort)) {
+            Long afterId = cursor == null ? 0L : PageCursor.parse(cursor, sort).id();
+            List<BookingSummary> rows = bookingRepository.findSummariesAfterId(afterId, KeysetPages.probe(size));
+            return KeysetPages.page(rows, size, booking -> new PageCursor(sort, null, booking.id()));
+        }
+        throw new IllegalArgumentException("Sort must be either id or checkInDate");
+    }
+
+    // List rows show the room number, so room changes count too
+    public VersionStamp getVersionStamp() {
+        return bookingRepository.findVersionStamp().and(roomRepository.findVersionStamp());
+    }
+
+    public VersionStamp getVersionStamp(Long id) {
+        return bookingRepository.findVersionStampById(id);
     }
 
     public Optional<Booking> getBookingById(Long id) {
@@ -21,23 +103,201 @@ public class BookingService {
     }
 
     public Booking createBooking(Booking booking) {
-        return bookingRepository.save(booking);
+        entityValidator.validateNewBooking(booking);
+        Long roomId = booking.getRoom() != null ? booking.getRoom().getId() : null;
+        validateStay(roomId, booking.getCheckInDate(), booking.getCheckOutDate(), null);
+        attachRoomAndUser(booking);
+        ReentrantLock lock = roomLocks.forRoom(roomId);
+        lock.lock();
+        try {
+            // Re-check under the lock: another writer may have taken the room since the first check
+            validateStay(roomId, booking.getCheckInDate(), booking.getCheckOutDate(), null);
+            Booking savedBooking = transactionTemplate.execute(status -> {
+                Booking saved = saveAndFlush(booking);
+                roomNightLedger.reserve(saved.getId(), roomId, saved.getCheckInDate(), saved.getCheckOutDate());
+                return saved;
+            });
+            availabilityIndex.add(savedBooking.getId(), roomId,
+                    savedBooking.getCheckInDate(), savedBooking.getCheckOutDate());
+            eventPublisher.publishEvent(BookingChangedEvent.saved(savedBooking));
+            return savedBooking;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BulkResult createBookings(List<Booking> bookings) {
+        BulkIngest.validateRequestSize(bookings, maxBulkItems);
+        List<Long> requestedRoomIds = bookings.stream().filter(Objects::nonNull)
+                .map(b -> b.getRoom() != null ? b.getRoom().getId() : null).filter(Objects::nonNull).toList();
+        List<ReentrantLock> locks = roomLocks.forRooms(requestedRoomIds);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            List<Booking> accepted = new ArrayList<>();
+            BulkResult result;
+            try {
+                result = transactionTemplate.execute(status -> ingestBookings(bookings, requestedRoomIds, accepted));
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                throw new IllegalArgumentException("Bookings conflict with existing data, nothing was saved");
+            }
+            for (Booking booking : accepted) {
+                availabilityIndex.add(booking.getId(),
+                        booking.getRoom().getId(), booking.getCheckInDate(), booking.getCheckOutDate());
+                eventPublisher.publishEvent(BookingChangedEvent.saved(booking));
+            }
+            return result;
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    private BulkResult ingestBookings(List<Booking> bookings, List<Long> requestedRoomIds, List<Booking> accepted) {
+        Set<Long> roomIds = new HashSet<>(roomRepository.findExistingIds(requestedRoomIds));
+        Set<Long> userIds = new HashSet<>(userRepository.findExistingIds(
+                bookings.stream().filter(Objects::nonNull).map(b -> b.getUser() != null ? b.getUser().getId() : null).filter(Objects::nonNull).toList()));
+
+        BulkResult result = new BulkResult();
+        // Stays accepted earlier in this request must also block later ones
+        AvailabilityIndex batchIndex = new AvailabilityIndex();
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            try {
+                BulkIngest.requireItem(booking);
+                entityValidator.validateNewBooking(booking);
+                Long roomId = booking.getRoom().getId();
+                Long userId = booking.getUser().getId();
+                if (!roomIds.contains(roomId)) {
+                    throw new IllegalArgumentException("Room not found with id: " + roomId);
+                }
+                if (!userIds.contains(userId)) {
+                    throw new IllegalArgumentException("User not found with id: " + userId);
+                }
+                validateStay(roomId, booking.getCheckInDate(), booking.getCheckOutDate(), null);
+                if (batchIndex.findConflict(roomId, booking.getCheckInDate(), booking.getCheckOutDate(), null) != null) {
+                    throw new IllegalArgumentException("Room is already booked for the selected dates");
+                }
+                booking.setRoom(entityManager.getReference(Room.class, roomId));
+                booking.setUser(entityManager.getReference(User.class, userId));
+                entityManager.persist(booking);
+                roomNightLedger.nights(booking.getId(), roomId, booking.getCheckInDate(), booking.getCheckOutDate())
+                        .forEach(entityManager::persist);
+                batchIndex.add(booking.getId(), roomId, booking.getCheckInDate(), booking.getCheckOutDate());
+                accepted.add(booking);
+                result.accept(booking.getId());
+                if (accepted.size() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            } catch (IllegalArgumentException e) {
+                result.reject(i, e.getMessage());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return result;
     }
 
     public Booking updateBooking(Long id, Booking bookingDetails) {
         Optional<Booking> optionalBooking = bookingRepository.findById(id);
         if (optionalBooking.isPresent()) {
+            entityValidator.validateBookingDetails(bookingDetails);
             Booking booking = optionalBooking.get();
-            booking.setBookingNumber(bookingDetails.getBookingNumber());
-            booking.setCheckInDate(bookingDetails.getCheckInDate());
-            booking.setCheckOutDate(bookingDetails.getCheckOutDate());
-            return bookingRepository.save(booking);
+            Long roomId = booking.getRoom().getId();
+            ReentrantLock lock = roomLocks.forRoom(roomId);
+            lock.lock();
+            try {
+                validateStay(roomId, bookingDetails.getCheckInDate(), bookingDetails.getCheckOutDate(), booking.getId());
+                // Reloaded with its room and user inside the transaction, so the booking returned is the
+                // updated row, fully loaded, rather than a merged copy of the detached one read above
+                Booking savedBooking = transactionTemplate.execute(status -> bookingRepository.findById(id)
+                        .map(managed -> {
+                            managed.setBookingNumber(bookingDetails.getBookingNumber());
+                            managed.setCheckInDate(bookingDetails.getCheckInDate());
+                            managed.setCheckOutDate(bookingDetails.getCheckOutDate());
+                            roomNightLedger.release(id);
+                            roomNightLedger.reserve(id, roomId, managed.getCheckInDate(), managed.getCheckOutDate());
+                            return managed;
+                        })
+                        .orElse(null));
+                if (savedBooking == null) {
+                    return null;
+                }
+                availabilityIndex.add(savedBooking.getId(), roomId,
+                        savedBooking.getCheckInDate(), savedBooking.getCheckOutDate());
+                eventPublisher.publishEvent(BookingChangedEvent.saved(savedBooking));
+                return savedBooking;
+            } finally {
+                lock.unlock();
+            }
         } else {
             return null;
         }
     }
-    
+
     public void deleteBooking(Long id) {
-        bookingRepository.deleteById(id);
+        Optional<Booking> optionalBooking = bookingRepository.findById(id);
+        if (optionalBooking.isEmpty()) {
+            return;
+        }
+        ReentrantLock lock = roomLocks.forRoom(optionalBooking.get().getRoom().getId());
+        lock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                roomNightLedger.release(id);
+                bookingRepository.deleteById(id);
+            });
+            availabilityIndex.remove(id);
+            eventPublisher.publishEvent(BookingChangedEvent.deleted(id, optionalBooking.get().getRoom().getId()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isRoomAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        validateDates(checkIn, checkOut);
+        return availabilityIndex.isAvailable(roomId, checkIn, checkOut);
+    }
+
+    public Map<String, Object> checkAvailabilityIndex() {
+        return availabilityIndex.verify();
+    }
+
+    private Booking saveAndFlush(Booking booking) {
+        try {
+            return bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(MISSING_REFERENCE);
+        }
+    }
+
+    // Request bodies name the room and user by id only; rooms and users are versioned, so such a bare
+    // reference cannot be saved as an association and the real rows are loaded instead
+    private void attachRoomAndUser(Booking booking) {
+        Long userId = booking.getUser().getId();
+        booking.setRoom(roomRepository.findById(booking.getRoom().getId())
+                .orElseThrow(() -> new IllegalArgumentException(MISSING_REFERENCE)));
+        booking.setUser((userId == null ? Optional.<User>empty() : userRepository.findById(userId))
+                .orElseThrow(() -> new IllegalArgumentException(MISSING_REFERENCE)));
+    }
+
+    private void validateStay(Long roomId, LocalDate checkIn, LocalDate checkOut, Long bookingId) {
+        if (roomId == null) {
+            throw new IllegalArgumentException("Room is required");
+        }
+        validateDates(checkIn, checkOut);
+        if (availabilityIndex.findConflict(roomId, checkIn, checkOut, bookingId) != null) {
+            throw new IllegalArgumentException("Room is already booked for the selected dates");
+        }
+    }
+
+    private void validateDates(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) {
+            throw new IllegalArgumentException("Check-in and check-out dates are required");
+        }
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
     }
 }
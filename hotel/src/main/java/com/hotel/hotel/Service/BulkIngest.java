@@ -0,0 +1,24 @@
+package com.hotel.hotel.Service;
+
+import java.util.List;
+
+final class BulkIngest {
+
+    private BulkIngest() {
+    }
+
+    static void validateRequestSize(List<?> items, int maxItems) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("A bulk request cannot contain more than " + maxItems + " items");
+        }
+    }
+
+    static void requireItem(Object item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item is required");
+        }
+    }
+}
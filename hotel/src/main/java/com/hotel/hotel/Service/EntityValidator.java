@@ -0,0 +1,281 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.regex.Pattern;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+
+/**
+ * The single place request entities are validated. Mirrors the constraint annotations on the model
+ * classes, but uses enum-set lookups and hand-written character checks so the common case neither
+ * compiles a regex nor allocates. Only the e-mail rule still uses a (precompiled) pattern.
+ */
+@Component
+public class EntityValidator {
+    private static final Pattern EMAIL = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    private static final Set<String> ROOM_TYPES = Set.of("SINGLE", "DOUBLE", "SUITE", "DELUXE");
+    private static final Set<String> ROOM_STATUSES = Set.of("AVAILABLE", "OCCUPIED", "MAINTENANCE", "RESERVED");
+    private static final Set<String> YES_NO = Set.of("YES", "NO");
+    private static final Set<String> USER_ROLES = Set.of("ADMIN", "USER", "STAFF");
+    private static final Set<String> PAYMENT_STATUSES = Set.of("PENDING", "PAID", "CANCELLED", "REFUNDED");
+    private static final Set<String> PAYMENT_METHODS = Set.of("CASH", "CREDIT_CARD", "DEBIT_CARD", "BANK_TRANSFER");
+    // Cents
+    private static final long MIN_ROOM_PRICE = 10_000L;
+    private static final long MAX_ROOM_PRICE = 1_000_000L;
+
+    public void validateRoom(Room room) {
+        if (!isRoomNumber(room.getRoomNumber())) {
+            throw new IllegalArgumentException("Room number must be 1 uppercase letter followed by 3 digits (e.g., A101)");
+        }
+        if (!isOneOf(room.getRoomType(), ROOM_TYPES)) {
+            throw new IllegalArgumentException("Room type must be either SINGLE, DOUBLE, SUITE, or DELUXE");
+        }
+        if (room.getCapacity() == null || room.getCapacity() < 1 || room.getCapacity() > 6) {
+            throw new IllegalArgumentException("Room capacity must be between 1 and 6 persons");
+        }
+        if (room.getPricePerNight() == null || room.getPricePerNight() < MIN_ROOM_PRICE || room.getPricePerNight() > MAX_ROOM_PRICE) {
+            throw new IllegalArgumentException("Room price must be between 100 and 10000 per night");
+        }
+        if (!isOneOf(room.getRoomStatus(), ROOM_STATUSES)) {
+            throw new IllegalArgumentException("Room status must be either AVAILABLE, OCCUPIED, MAINTENANCE, or RESERVED");
+        }
+        if (room.getDescription() != null && room.getDescription().length() > 500) {
+            throw new IllegalArgumentException("Description cannot exceed 500 characters");
+        }
+        if (room.getSmokingAllowed() != null && !YES_NO.contains(room.getSmokingAllowed())) {
+            throw new IllegalArgumentException("Smoking allowed must be either YES or NO");
+        }
+        if (room.getFloorNumber() == null || room.getFloorNumber() < 1 || room.getFloorNumber() > 20) {
+            throw new IllegalArgumentException("Floor number must be between 1 and 20");
+        }
+    }
+
+    public void validateUser(User user) {
+        if (!isName(user.getFirstName())) {
+            throw new IllegalArgumentException("Invalid first name - must be 2-50 characters and contain only letters");
+        }
+        if (!isName(user.getLastName())) {
+            throw new IllegalArgumentException("Invalid last name - must be 2-50 characters and contain only letters");
+        }
+        if (!isEmail(user.getEmail())) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+        if (!isStrongPassword(user.getPassword())) {
+            throw new IllegalArgumentException("Password must be at least 8 characters and contain at least one digit, one uppercase, one lowercase, and one special character");
+        }
+        if (!isEgyptianPhone(user.getPhoneNumber())) {
+            throw new IllegalArgumentException("Invalid Egyptian phone number format - must start with +201");
+        }
+        if (!isAddress(user.getAddress())) {
+            throw new IllegalArgumentException("Address must be between 10 and 255 characters");
+        }
+        if (!isOneOf(user.getUserRole(), USER_ROLES)) {
+            throw new IllegalArgumentException("User role must be either ADMIN, USER, or STAFF");
+        }
+    }
+
+    // Partial update: only the fields that are present are checked
+    public void validateUserUpdate(User user) {
+        if (user.getFirstName() != null && !isName(user.getFirstName())) {
+            throw new IllegalArgumentException("Invalid first name - must be 2-50 characters and contain only letters");
+        }
+        if (user.getLastName() != null && !isName(user.getLastName())) {
+            throw new IllegalArgumentException("Invalid last name - must be 2-50 characters and contain only letters");
+        }
+        if (user.getEmail() != null && !isEmail(user.getEmail())) {
+            throw new IllegalArgumentException("Invalid email format");
+        }
+        if (user.getPassword() != null && !user.getPassword().isEmpty() && !isStrongPassword(user.getPassword())) {
+            throw new IllegalArgumentException("Password must be at least 8 characters and contain at least one digit, one uppercase, one lowercase, and one special character");
+        }
+        if (user.getPhoneNumber() != null && !isEgyptianPhone(user.getPhoneNumber())) {
+            throw new IllegalArgumentException("Invalid Egyptian phone number format - must start with +201");
+        }
+        if (user.getAddress() != null && !isAddress(user.getAddress())) {
+            throw new IllegalArgumentException("Address must be between 10 and 255 characters");
+        }
+        if (user.getUserRole() != null && !USER_ROLES.contains(user.getUserRole())) {
+            throw new IllegalArgumentException("User role must be either ADMIN, USER, or STAFF");
+        }
+    }
+
+    public void validateInvoice(Invoice invoice) {
+        if (invoice.getBooking() == null) {
+            throw new IllegalArgumentException("Booking is required");
+        }
+        if (invoice.getUser() == null) {
+            throw new IllegalArgumentException("User is required");
+        }
+        if (invoice.getTotalAmount() != null && invoice.getTotalAmount() < 0) {
+            throw new IllegalArgumentException("Total amount must be positive");
+        }
+        if (invoice.getPaymentStatus() != null) {
+            validatePaymentStatus(invoice.getPaymentStatus());
+        }
+        if (invoice.getPaymentMethod() != null) {
+            validatePaymentMethod(invoice.getPaymentMethod());
+        }
+        if (invoice.getNotes() != null && invoice.getNotes().length() > 500) {
+            throw new IllegalArgumentException("Notes cannot exceed 500 characters");
+        }
+        if (invoice.getTaxAmount() != null && invoice.getTaxAmount() < 0) {
+            throw new IllegalArgumentException("Tax amount cannot be negative");
+        }
+        if (invoice.getDiscountAmount() != null && invoice.getDiscountAmount() < 0) {
+            throw new IllegalArgumentException("Discount amount cannot be negative");
+        }
+    }
+
+    public void validateNewInvoice(Invoice invoice) {
+        validateInvoice(invoice);
+        if (invoice.getTotalAmount() == null) {
+            throw new IllegalArgumentException("Total amount is required");
+        }
+    }
+
+    public void validatePaymentStatus(String status) {
+        if (!isOneOf(status, PAYMENT_STATUSES)) {
+            throw new IllegalArgumentException("Payment status must be either PENDING, PAID, CANCELLED, or REFUNDED");
+        }
+    }
+
+    public void validatePaymentMethod(String method) {
+        if (!isOneOf(method, PAYMENT_METHODS)) {
+            throw new IllegalArgumentException("Payment method must be either CASH, CREDIT_CARD, DEBIT_CARD, or BANK_TRANSFER");
+        }
+    }
+
+    public void validateNewBooking(Booking booking) {
+        validateBookingDetails(booking);
+        if (booking.getRoom() == null) {
+            throw new IllegalArgumentException("Room is required");
+        }
+        if (booking.getUser() == null) {
+            throw new IllegalArgumentException("User is required");
+        }
+    }
+
+    public void validateBookingDetails(Booking booking) {
+        if (!isBookingNumber(booking.getBookingNumber())) {
+            throw new IllegalArgumentException("Booking number must be in format: XXX-XXXX");
+        }
+        LocalDate today = LocalDate.now();
+        if (booking.getCheckInDate() == null || booking.getCheckInDate().isBefore(today)) {
+            throw new IllegalArgumentException("Check-in date must be in the present or future");
+        }
+        if (booking.getCheckOutDate() == null || booking.getCheckOutDate().isBefore(today)) {
+            throw new IllegalArgumentException("Check-out date must be in the present or future");
+        }
+    }
+
+    private static boolean isOneOf(String value, Set<String> allowed) {
+        return value != null && allowed.contains(value);
+    }
+
+    // ^[A-Z]\d{3}$
+    static boolean isRoomNumber(String value) {
+        return value != null && value.length() == 4 && isUpper(value.charAt(0)) && isDigits(value, 1, 4);
+    }
+
+    // ^[A-Z]{3}-\d{4}$
+    static boolean isBookingNumber(String value) {
+        return value != null && value.length() == 8
+                && isUpper(value.charAt(0)) && isUpper(value.charAt(1)) && isUpper(value.charAt(2))
+                && value.charAt(3) == '-' && isDigits(value, 4, 8);
+    }
+
+    // ^[a-zA-Z\s]{2,50}$
+    static boolean isName(String value) {
+        if (value == null || value.length() < 2 || value.length() > 50) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isUpper(c) && !isLower(c) && !isWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isEmail(String value) {
+        return value != null && value.length() <= 100 && EMAIL.matcher(value).matches();
+    }
+
+    // ^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\S+$).{8,}$
+    static boolean isStrongPassword(String value) {
+        if (value == null || value.length() < 8) {
+            return false;
+        }
+        boolean digit = false;
+        boolean lower = false;
+        boolean upper = false;
+        boolean special = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isWhitespace(c) || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            digit |= isDigit(c);
+            lower |= isLower(c);
+            upper |= isUpper(c);
+            special |= c == '@' || c == '#' || c == '$' || c == '%' || c == '^' || c == '&' || c == '+' || c == '=';
+        }
+        return digit && lower && upper && special;
+    }
+
+    // ^\+201[0-2,5]{1}\d{8}$
+    static boolean isEgyptianPhone(String value) {
+        if (value == null || value.length() != 13 || !value.startsWith("+201")) {
+            return false;
+        }
+        char operator = value.charAt(4);
+        return (operator == '0' || operator == '1' || operator == '2' || operator == ',' || operator == '5')
+                && isDigits(value, 5, 13);
+    }
+
+    // ^[\w\s,.-]{10,255}$
+    static boolean isAddress(String value) {
+        if (value == null || value.length() < 10 || value.length() > 255) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isUpper(c) && !isLower(c) && !isDigit(c) && c != '_' && !isWhitespace(c)
+                    && c != ',' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    // Regex \s: [ \t\n\x0B\f\r]
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
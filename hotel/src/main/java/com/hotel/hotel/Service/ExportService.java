@@ -0,0 +1,193 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import com.hotel.hotel.Model.BookingExportRow;
+import com.hotel.hotel.Model.InvoiceExportRow;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.MoneyJson;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.InvoiceRepository;
+
+/**
+ * Writes invoices and bookings row by row from a database cursor, so memory use does not depend
+ * on the size of the exported range.
+ */
+@Service
+public class ExportService {
+    private static final String[] INVOICE_COLUMNS = {"id", "bookingNumber", "userId", "invoiceDate", "totalAmount",
+            "taxAmount", "discountAmount", "paymentStatus", "paymentMethod", "paymentDate"};
+    private static final String[] BOOKING_COLUMNS = {"id", "bookingNumber", "roomId", "roomNumber", "userId",
+            "checkInDate", "checkOutDate"};
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SmileFactory smileFactory = new SmileFactory();
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void validateFormat(String format) {
+        if (!"ndjson".equals(format) && !"csv".equals(format) && !"smile".equals(format)) {
+            throw new IllegalArgumentException("Format must be ndjson, csv or smile");
+        }
+    }
+
+    public MediaType contentType(String format) {
+        return switch (format) {
+            case "csv" -> MediaType.parseMediaType("text/csv");
+            case "smile" -> MediaType.parseMediaType("application/x-jackson-smile");
+            default -> MediaType.parseMediaType("application/x-ndjson");
+        };
+    }
+
+    public void exportInvoices(LocalDateTime startDate, LocalDateTime endDate, String format, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<InvoiceExportRow> rows = invoiceRepository.streamExportRows(startDate, endDate)) {
+                write(rows.iterator(), INVOICE_COLUMNS, format, out, this::invoiceValues);
+            }
+        });
+    }
+
+    public void exportBookings(LocalDate startDate, LocalDate endDate, String format, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<BookingExportRow> rows = bookingRepository.streamExportRows(startDate, endDate)) {
+                write(rows.iterator(), BOOKING_COLUMNS, format, out, this::bookingValues);
+            }
+        });
+    }
+
+    private Object[] invoiceValues(InvoiceExportRow row) {
+        return new Object[]{row.getId(), row.getBookingNumber(), row.getUserId(), row.getInvoiceDate(),
+                amount(row.getTotalAmount()), amount(row.getTaxAmount()), amount(row.getDiscountAmount()),
+                row.getPaymentStatus(), row.getPaymentMethod(), row.getPaymentDate()};
+    }
+
+    // Rows carry cents; exports show the same decimal amounts as the API
+    private static Amount amount(Long cents) {
+        return cents != null ? new Amount(cents) : null;
+    }
+
+    // Tells an amount in cents apart from the ids in a row; CSV takes its decimal text
+    private record Amount(long cents) {
+        @Override
+        public String toString() {
+            return Money.format(cents);
+        }
+    }
+
+    private Object[] bookingValues(BookingExportRow row) {
+        return new Object[]{row.getId(), row.getBookingNumber(), row.getRoomId(), row.getRoomNumber(),
+                row.getUserId(), row.getCheckInDate(), row.getCheckOutDate()};
+    }
+
+    private <T> void write(Iterator<T> rows, String[] columns, String format, OutputStream out, RowValues<T> values) {
+        if ("csv".equals(format)) {
+            writeCsv(rows, columns, out, values);
+        } else {
+            writeObjects(rows, columns, "smile".equals(format), out, values);
+        }
+    }
+
+    // One object per row: newline-delimited JSON, or a stream of Smile root values that a
+    // MappingIterator reads back one at a time
+    private <T> void writeObjects(Iterator<T> rows, String[] columns, boolean smile, OutputStream out, RowValues<T> values) {
+        try (JsonGenerator json = smile
+                ? smileFactory.createGenerator(out)
+                : objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rows.hasNext()) {
+                Object[] row = values.of(rows.next());
+                json.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    json.writeFieldName(columns[i]);
+                    writeJsonValue(json, row[i]);
+                }
+                json.writeEndObject();
+                if (!smile) {
+                    json.writeRaw('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonValue(JsonGenerator json, Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Long longValue) {
+            json.writeNumber(longValue);
+        } else if (value instanceof Amount amount) {
+            MoneyJson.Writer.write(amount.cents(), json);
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    private <T> void writeCsv(Iterator<T> rows, String[] columns, OutputStream out, RowValues<T> values) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+            while (rows.hasNext()) {
+                Object[] row = values.of(rows.next());
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    if (row[i] != null) {
+                        writeCsvField(writer, row[i].toString());
+                    }
+                }
+                writer.write("\r\n");
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvField(Writer writer, String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @FunctionalInterface
+    private interface RowValues<T> {
+        Object[] of(T row);
+    }
+}
@@ -1,50 +1,179 @@
 package com.hotel.hotel.Service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.BulkResult;
+import com.hotel.hotel.Model.CursorPage;
 import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.InvoiceSummary;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.PageCursor;
+import com.hotel.hotel.Model.RevenueRollup;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Model.VersionStamp;
+import com.hotel.hotel.Repository.BookingRepository;
 import com.hotel.hotel.Repository.InvoiceRepository;
+import com.hotel.hotel.Repository.UserRepository;
 
 @Service
 public class InvoiceService {
     @Autowired
     private InvoiceRepository invoiceRepository;
 
-    public List<Invoice> getAllInvoices() {
-        return invoiceRepository.findAll();
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityValidator entityValidator;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hotel.bulk.batch-size:50}")
+    private int batchSize;
+
+    @Value("${hotel.bulk.max-items:10000}")
+    private int maxBulkItems;
+
+    public CursorPage<InvoiceSummary> getInvoices(String cursor, int size, String sort) {
+        KeysetPages.validateSize(size);
+        if ("invoiceDate".equals(sort)) {
+            PageCursor after = cursor == null ? null : PageCursor.parse(cursor, sort);
+            List<InvoiceSummary> rows = after == null
+                    ? invoiceRepository.findSummariesByInvoiceDate(KeysetPages.probe(size))
+                    : invoiceRepository.findSummariesAfterInvoiceDate(after.dateTimeKey(), after.id(), KeysetPages.probe(size));
+            return KeysetPages.page(rows, size,
+                    invoice -> new PageCursor(sort, invoice.invoiceDate().toString(), invoice.id()));
+        }
+        if ("id".equals(sort)) {
+            Long afterId = cursor == null ? 0L : PageCursor.parse(cursor, sort).id();
+            List<InvoiceSummary> rows = invoiceRepository.findSummariesAfterId(afterId, KeysetPages.probe(size));
+            return KeysetPages.page(rows, size, invoice -> new PageCursor(sort, null, invoice.id()));
+        }
+        throw new IllegalArgumentException("Sort must be either id or invoiceDate");
+    }
+
+    // List rows show the booking number, so booking changes count too
+    public VersionStamp getVersionStamp() {
+        return invoiceRepository.findVersionStamp().and(bookingRepository.findVersionStamp());
+    }
+
+    public VersionStamp getVersionStamp(Long id) {
+        return invoiceRepository.findVersionStampById(id);
+    }
+
+    public VersionStamp getUserVersionStamp(Long userId) {
+        return invoiceRepository.findVersionStampByUserId(userId);
     }
 
     public Optional<Invoice> getInvoiceById(Long id) {
         return invoiceRepository.findById(id);
     }
 
+    @Transactional
     public Invoice createInvoice(Invoice invoice) {
-        validateInvoice(invoice);
+        entityValidator.validateNewInvoice(invoice);
+        attachBookingAndUser(invoice, invoice);
+        prepareNewInvoice(invoice);
+        Invoice savedInvoice = invoiceRepository.save(invoice);
+        revenueRollupService.apply(RevenueRollup.of(savedInvoice, 1));
+        return savedInvoice;
+    }
+
+    @Transactional
+    public BulkResult createInvoices(List<Invoice> invoices) {
+        BulkIngest.validateRequestSize(invoices, maxBulkItems);
+        Set<Long> bookingIds = new HashSet<>(bookingRepository.findExistingIds(
+                invoices.stream().filter(Objects::nonNull).map(i -> i.getBooking() != null ? i.getBooking().getId() : null).filter(Objects::nonNull).toList()));
+        Set<Long> userIds = new HashSet<>(userRepository.findExistingIds(
+                invoices.stream().filter(Objects::nonNull).map(i -> i.getUser() != null ? i.getUser().getId() : null).filter(Objects::nonNull).toList()));
+
+        BulkResult result = new BulkResult();
+        List<RevenueRollup> revenue = new ArrayList<>();
+        for (int i = 0; i < invoices.size(); i++) {
+            Invoice invoice = invoices.get(i);
+            try {
+                BulkIngest.requireItem(invoice);
+                entityValidator.validateNewInvoice(invoice);
+                Long bookingId = invoice.getBooking().getId();
+                Long userId = invoice.getUser().getId();
+                if (!bookingIds.contains(bookingId)) {
+                    throw new IllegalArgumentException("Booking not found with id: " + bookingId);
+                }
+                if (!userIds.contains(userId)) {
+                    throw new IllegalArgumentException("User not found with id: " + userId);
+                }
+                prepareNewInvoice(invoice);
+                invoice.setBooking(entityManager.getReference(Booking.class, bookingId));
+                invoice.setUser(entityManager.getReference(User.class, userId));
+                entityManager.persist(invoice);
+                revenue.add(RevenueRollup.of(invoice, 1));
+                result.accept(invoice.getId());
+                if (result.getAccepted() % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            } catch (IllegalArgumentException e) {
+                result.reject(i, e.getMessage());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        revenueRollupService.apply(revenue);
+        return result;
+    }
+
+    // Swaps the id-only booking and user from the body for the real rows, as BookingService.attachRoomAndUser does
+    private void attachBookingAndUser(Invoice invoice, Invoice details) {
+        if (details.getBooking() != null) {
+            Long bookingId = details.getBooking().getId();
+            invoice.setBooking((bookingId == null ? Optional.<Booking>empty() : bookingRepository.findById(bookingId))
+                    .orElseThrow(() -> new IllegalArgumentException("Booking not found with id: " + bookingId)));
+        }
+        if (details.getUser() != null) {
+            Long userId = details.getUser().getId();
+            invoice.setUser((userId == null ? Optional.<User>empty() : userRepository.findById(userId))
+                    .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId)));
+        }
+    }
+
+    private void prepareNewInvoice(Invoice invoice) {
         invoice.setInvoiceDate(LocalDateTime.now());
         if (invoice.getPaymentStatus() == null) {
             invoice.setPaymentStatus("PENDING");
         }
         calculateTotalAmount(invoice);
-        return invoiceRepository.save(invoice);
     }
 
+    @Transactional
     public Invoice updateInvoice(Long id, Invoice invoiceDetails) {
         Optional<Invoice> invoiceOpt = invoiceRepository.findById(id);
         if (invoiceOpt.isPresent()) {
-            validateInvoice(invoiceDetails);
+            entityValidator.validateInvoice(invoiceDetails);
             Invoice existingInvoice = invoiceOpt.get();
+            RevenueRollup previous = RevenueRollup.of(existingInvoice, -1);
             
             // Update basic information
-            if (invoiceDetails.getBooking() != null) {
-                existingInvoice.setBooking(invoiceDetails.getBooking());
-            }
-            if (invoiceDetails.getUser() != null) {
-                existingInvoice.setUser(invoiceDetails.getUser());
-            }
+            attachBookingAndUser(existingInvoice, invoiceDetails);
             if (invoiceDetails.getTotalAmount() != null) {
                 existingInvoice.setTotalAmount(invoiceDetails.getTotalAmount());
             }
@@ -68,16 +197,19 @@ public class InvoiceService {
             }
             
             calculateTotalAmount(existingInvoice);
-            return invoiceRepository.save(existingInvoice);
+            Invoice savedInvoice = invoiceRepository.save(existingInvoice);
+            revenueRollupService.apply(previous, RevenueRollup.of(savedInvoice, 1));
+            return savedInvoice;
         }
         return null;
     }
 
+    @Transactional
     public void deleteInvoice(Long id) {
-        if (!invoiceRepository.existsById(id)) {
-            throw new IllegalArgumentException("Invoice not found with id: " + id);
-        }
-        invoiceRepository.deleteById(id);
+        Invoice invoice = invoiceRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Invoice not found with id: " + id));
+        revenueRollupService.apply(RevenueRollup.of(invoice, -1));
+        invoiceRepository.delete(invoice);
     }
 
     public List<Invoice> getInvoicesByUserId(Long userId) {
@@ -89,12 +221,12 @@ public class InvoiceService {
     }
 
     public List<Invoice> getInvoicesByStatus(String status) {
-        validatePaymentStatus(status);
+        entityValidator.validatePaymentStatus(status);
         return invoiceRepository.findByPaymentStatus(status.toUpperCase());
     }
 
     public List<Invoice> getInvoicesByPaymentMethod(String method) {
-        validatePaymentMethod(method);
+        entityValidator.validatePaymentMethod(method);
         return invoiceRepository.findByPaymentMethod(method.toUpperCase());
     }
 
@@ -105,57 +237,15 @@ public class InvoiceService {
         return invoiceRepository.findByInvoiceDateBetween(startDate, endDate);
     }
 
-    public List<Invoice> getInvoicesByAmountRange(Double minAmount, Double maxAmount) {
+    public List<Invoice> getInvoicesByAmountRange(Long minAmount, Long maxAmount) {
         if (minAmount > maxAmount) {
             throw new IllegalArgumentException("Minimum amount must be less than maximum amount");
         }
         return invoiceRepository.findByTotalAmountBetween(minAmount, maxAmount);
     }
 
-    private void validateInvoice(Invoice invoice) {
-        if (invoice.getBooking() == null) {
-            throw new IllegalArgumentException("Booking is required");
-        }
-        if (invoice.getUser() == null) {
-            throw new IllegalArgumentException("User is required");
-        }
-        if (invoice.getTotalAmount() != null && invoice.getTotalAmount() < 0) {
-            throw new IllegalArgumentException("Total amount must be positive");
-        }
-        if (invoice.getPaymentStatus() != null) {
-            validatePaymentStatus(invoice.getPaymentStatus());
-        }
-        if (invoice.getPaymentMethod() != null) {
-            validatePaymentMethod(invoice.getPaymentMethod());
-        }
-        if (invoice.getNotes() != null && invoice.getNotes().length() > 500) {
-            throw new IllegalArgumentException("Notes cannot exceed 500 characters");
-        }
-        if (invoice.getTaxAmount() != null && invoice.getTaxAmount() < 0) {
-            throw new IllegalArgumentException("Tax amount cannot be negative");
-        }
-        if (invoice.getDiscountAmount() != null && invoice.getDiscountAmount() < 0) {
-            throw new IllegalArgumentException("Discount amount cannot be negative");
-        }
-    }
-
-    private void validatePaymentStatus(String status) {
-        if (status == null || !status.matches("^(PENDING|PAID|CANCELLED|REFUNDED)$")) {
-            throw new IllegalArgumentException("Payment status must be either PENDING, PAID, CANCELLED, or REFUNDED");
-        }
-    }
-
-    private void validatePaymentMethod(String method) {
-        if (method == null || !method.matches("^(CASH|CREDIT_CARD|DEBIT_CARD|BANK_TRANSFER)$")) {
-            throw new IllegalArgumentException("Payment method must be either CASH, CREDIT_CARD, DEBIT_CARD, or BANK_TRANSFER");
-        }
-    }
-
     private void calculateTotalAmount(Invoice invoice) {
-        double baseAmount = invoice.getTotalAmount() != null ? invoice.getTotalAmount() : 0.0;
-        double taxAmount = invoice.getTaxAmount() != null ? invoice.getTaxAmount() : 0.0;
-        double discountAmount = invoice.getDiscountAmount() != null ? invoice.getDiscountAmount() : 0.0;
-        
-        invoice.setTotalAmount(baseAmount + taxAmount - discountAmount);
+        invoice.setTotalAmount(Money.total(Money.orZero(invoice.getTotalAmount()),
+                Money.orZero(invoice.getTaxAmount()), Money.orZero(invoice.getDiscountAmount())));
     }
 }
@@ -0,0 +1,34 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.function.Function;
+import com.hotel.hotel.Model.CursorPage;
+import com.hotel.hotel.Model.PageCursor;
+
+final class KeysetPages {
+    static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetPages() {
+    }
+
+    static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // One extra row tells us whether another page exists without a count query
+    static Pageable probe(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    static <T> CursorPage<T> page(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, rows.size(), null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, size, cursorOf.apply(items.get(size - 1)).toToken());
+    }
+}
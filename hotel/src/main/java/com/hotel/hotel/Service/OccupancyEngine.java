@@ -0,0 +1,322 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import com.hotel.hotel.Model.BookingChangedEvent;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.OccupancyReport;
+import com.hotel.hotel.Model.OccupancyRow;
+import com.hotel.hotel.Model.RoomRate;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+
+/**
+ * Booked room nights held column-wise in primitive arrays (room slot, epoch day), kept in sync
+ * from BookingChangedEvents. Reports scan the columns in parallel with fork-join and only read
+ * the rooms table for the current floor, type and nightly rate of each room.
+ */
+@Component
+public class OccupancyEngine {
+    private static final int GRAIN = 1 << 14;
+    private static final int MAX_DAYS = 3660;
+    private static final int REMOVED = -1;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int[] roomSlots = new int[1024];
+    private int[] nights = new int[1024];
+    private int size;
+    private int removed;
+
+    // Booking id -> (first fact index << 32 | night count); a booking's facts are contiguous
+    private final Map<Long, Long> factsByBooking = new HashMap<>();
+    private final Map<Long, Integer> slotsByRoom = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<BookingStay> stays = bookingRepository.findAllStays();
+        lock.writeLock().lock();
+        try {
+            roomSlots = new int[1024];
+            nights = new int[1024];
+            size = 0;
+            removed = 0;
+            factsByBooking.clear();
+            slotsByRoom.clear();
+            for (BookingStay stay : stays) {
+                append(stay.getId(), stay.getRoomId(), stay.getCheckInDate(), stay.getCheckOutDate());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.deleted()) {
+            remove(event.bookingId());
+        } else {
+            add(event.bookingId(), event.roomId(), event.checkInDate(), event.checkOutDate());
+        }
+    }
+
+    public void add(Long bookingId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        lock.writeLock().lock();
+        try {
+            delete(bookingId);
+            append(bookingId, roomId, checkIn, checkOut);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long bookingId) {
+        lock.writeLock().lock();
+        try {
+            delete(bookingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - removed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Occupancy, ADR and RevPAR for the nights from startDate through endDate, grouped by day,
+     * floor or roomType. Every room counts as available each night, and a sold night earns the
+     * room's current price per night.
+     */
+    public OccupancyReport occupancy(LocalDate startDate, LocalDate endDate, String groupBy) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        if (days > MAX_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_DAYS + " days");
+        }
+        boolean byDay = "day".equals(groupBy);
+        if (!byDay && !"floor".equals(groupBy) && !"roomType".equals(groupBy)) {
+            throw new IllegalArgumentException("Group by must be either day, floor, or roomType");
+        }
+
+        List<RoomRate> rooms = roomRepository.findAllRates();
+        List<String> labels = new ArrayList<>();
+        long[] available;
+        Map<Long, Integer> groupOfRoom = new HashMap<>();
+        if (byDay) {
+            for (int day = 0; day < days; day++) {
+                labels.add(startDate.plusDays(day).toString());
+            }
+            available = new long[labels.size()];
+            Arrays.fill(available, rooms.size());
+            rooms.forEach(room -> groupOfRoom.put(room.getId(), 0));
+        } else {
+            TreeMap<String, Long> roomsPerGroup = new TreeMap<>();
+            for (RoomRate room : rooms) {
+                roomsPerGroup.merge(groupLabel(room, groupBy), 1L, Long::sum);
+            }
+            labels.addAll(roomsPerGroup.keySet());
+            available = new long[labels.size()];
+            for (int group = 0; group < labels.size(); group++) {
+                available[group] = roomsPerGroup.get(labels.get(group)) * days;
+            }
+            for (RoomRate room : rooms) {
+                groupOfRoom.put(room.getId(), labels.indexOf(groupLabel(room, groupBy)));
+            }
+        }
+
+        Totals totals;
+        lock.readLock().lock();
+        try {
+            int slots = slotsByRoom.size();
+            int[] slotGroup = new int[slots];
+            long[] slotPrice = new long[slots];
+            Arrays.fill(slotGroup, REMOVED);
+            Map<Long, Long> prices = new HashMap<>();
+            rooms.forEach(room -> prices.put(room.getId(), Money.orZero(room.getPricePerNight())));
+            slotsByRoom.forEach((roomId, slot) -> {
+                Integer group = groupOfRoom.get(roomId);
+                if (group != null) {
+                    slotGroup[slot] = group;
+                    slotPrice[slot] = prices.get(roomId);
+                }
+            });
+            totals = ForkJoinPool.commonPool().invoke(new Aggregate(roomSlots, nights, 0, size,
+                    (int) startDate.toEpochDay(), (int) endDate.toEpochDay(), byDay, slotGroup, slotPrice, labels.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<OccupancyRow> rows = new ArrayList<>();
+        long totalAvailable = 0;
+        long totalSold = 0;
+        long totalRevenue = 0L;
+        for (int group = 0; group < labels.size(); group++) {
+            rows.add(row(labels.get(group), available[group], totals.sold[group], totals.revenue[group]));
+            totalAvailable += available[group];
+            totalSold += totals.sold[group];
+            totalRevenue += totals.revenue[group];
+        }
+        return new OccupancyReport(startDate, endDate, groupBy, rows, row("total", totalAvailable, totalSold, totalRevenue));
+    }
+
+    private static String groupLabel(RoomRate room, String groupBy) {
+        Object value = "floor".equals(groupBy) ? room.getFloorNumber() : room.getRoomType();
+        return String.valueOf(value);
+    }
+
+    private static OccupancyRow row(String group, long available, long sold, long revenue) {
+        return new OccupancyRow(group, available, sold, revenue,
+                available == 0 ? 0.0 : round((double) sold / available, 4),
+                Money.divide(revenue, sold), Money.divide(revenue, available));
+    }
+
+    private static double round(double value, int decimals) {
+        double scale = Math.pow(10, decimals);
+        return Math.round(value * scale) / scale;
+    }
+
+    // Callers hold the write lock
+    private void append(Long bookingId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (bookingId == null || roomId == null || checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            return;
+        }
+        int count = (int) ChronoUnit.DAYS.between(checkIn, checkOut);
+        ensureCapacity(size + count);
+        int slot = slotsByRoom.computeIfAbsent(roomId, id -> slotsByRoom.size());
+        int first = (int) checkIn.toEpochDay();
+        for (int night = 0; night < count; night++) {
+            roomSlots[size + night] = slot;
+            nights[size + night] = first + night;
+        }
+        factsByBooking.put(bookingId, ((long) size << 32) | count);
+        size += count;
+    }
+
+    private void delete(Long bookingId) {
+        Long facts = factsByBooking.remove(bookingId);
+        if (facts == null) {
+            return;
+        }
+        int first = (int) (facts >>> 32);
+        int count = (int) (long) facts;
+        Arrays.fill(roomSlots, first, first + count, REMOVED);
+        removed += count;
+        if (removed > 1024 && removed > size / 2) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] liveSlots = new int[Math.max(1024, size - removed)];
+        int[] liveNights = new int[liveSlots.length];
+        int next = 0;
+        for (Map.Entry<Long, Long> entry : factsByBooking.entrySet()) {
+            int first = (int) (entry.getValue() >>> 32);
+            int count = (int) (long) entry.getValue();
+            System.arraycopy(roomSlots, first, liveSlots, next, count);
+            System.arraycopy(nights, first, liveNights, next, count);
+            entry.setValue(((long) next << 32) | count);
+            next += count;
+        }
+        roomSlots = liveSlots;
+        nights = liveNights;
+        size = next;
+        removed = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > roomSlots.length) {
+            int length = Math.max(capacity, roomSlots.length * 2);
+            roomSlots = Arrays.copyOf(roomSlots, length);
+            nights = Arrays.copyOf(nights, length);
+        }
+    }
+
+    private record Totals(long[] sold, long[] revenue) {
+        Totals add(Totals other) {
+            for (int group = 0; group < sold.length; group++) {
+                sold[group] += other.sold[group];
+                revenue[group] += other.revenue[group];
+            }
+            return this;
+        }
+    }
+
+    private static final class Aggregate extends RecursiveTask<Totals> {
+        private final int[] roomSlots;
+        private final int[] nights;
+        private final int from;
+        private final int to;
+        private final int start;
+        private final int end;
+        private final boolean byDay;
+        private final int[] slotGroup;
+        private final long[] slotPrice;
+        private final int groups;
+
+        Aggregate(int[] roomSlots, int[] nights, int from, int to, int start, int end, boolean byDay,
+                  int[] slotGroup, long[] slotPrice, int groups) {
+            this.roomSlots = roomSlots;
+            this.nights = nights;
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.end = end;
+            this.byDay = byDay;
+            this.slotGroup = slotGroup;
+            this.slotPrice = slotPrice;
+            this.groups = groups;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from > GRAIN) {
+                int middle = (from + to) >>> 1;
+                Aggregate left = new Aggregate(roomSlots, nights, from, middle, start, end, byDay, slotGroup, slotPrice, groups);
+                left.fork();
+                Totals right = new Aggregate(roomSlots, nights, middle, to, start, end, byDay, slotGroup, slotPrice, groups).compute();
+                return right.add(left.join());
+            }
+            Totals totals = new Totals(new long[groups], new long[groups]);
+            for (int fact = from; fact < to; fact++) {
+                int night = nights[fact];
+                int slot = roomSlots[fact];
+                if (night < start || night > end || slot == REMOVED || slotGroup[slot] == REMOVED) {
+                    continue;
+                }
+                int group = byDay ? night - start : slotGroup[slot];
+                totals.sold[group]++;
+                totals.revenue[group] += slotPrice[slot];
+            }
+            return totals;
+        }
+    }
+}
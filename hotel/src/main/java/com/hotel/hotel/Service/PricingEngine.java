@@ -0,0 +1,366 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import com.hotel.hotel.Model.BookingChangedEvent;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.PriceQuote;
+import com.hotel.hotel.Model.RoomRate;
+import com.hotel.hotel.Model.StayQuote;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+
+/**
+ * Nightly prices for every room over the next {@code hotel.pricing.horizon-days} days, held in one
+ * flat array indexed by room slot and day. A night's price is the room's base price, raised on
+ * Friday and Saturday nights and raised again as forward occupancy of its room type passes the
+ * demand threshold. Booking changes reprice only the nights they touch, so quotes never query.
+ */
+@Component
+public class PricingEngine {
+    private static final List<String> ROOM_TYPES = List.of("SINGLE", "DOUBLE", "SUITE", "DELUXE");
+    private static final int UNPRICED = -1;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Value("${hotel.pricing.horizon-days:365}")
+    private int horizon;
+
+    @Value("${hotel.pricing.weekend-uplift:0.15}")
+    private double weekendUplift;
+
+    @Value("${hotel.pricing.demand-threshold:0.5}")
+    private double demandThreshold;
+
+    @Value("${hotel.pricing.max-demand-uplift:0.3}")
+    private double maxDemandUplift;
+
+    @Value("${hotel.pricing.tax-rate:0.14}")
+    private double taxRate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held for a whole rebuild, so only one runs at a time
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    // Epoch day of grid column 0
+    private long origin;
+    private final Map<Long, Integer> slotsByRoom = new HashMap<>();
+    private long[] basePrices = new long[0];
+    private int[] roomTypes = new int[0];
+    private final int[] roomsPerType = new int[ROOM_TYPES.size()];
+    // Booked rooms per type and day: type * horizon + day
+    private int[] bookedPerType = new int[0];
+    // Price in cents per room slot and day: slot * horizon + day
+    private long[] grid = new long[0];
+    private final Map<Long, Stay> stays = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding.lock();
+        try {
+            load();
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    private void load() {
+        List<RoomRate> rooms = roomRepository.findAllRates();
+        List<BookingStay> bookings = bookingRepository.findAllStays();
+        lock.writeLock().lock();
+        try {
+            origin = LocalDate.now().toEpochDay();
+            slotsByRoom.clear();
+            stays.clear();
+            basePrices = new long[rooms.size()];
+            roomTypes = new int[rooms.size()];
+            Arrays.fill(roomsPerType, 0);
+            bookedPerType = new int[ROOM_TYPES.size() * horizon];
+            grid = new long[rooms.size() * horizon];
+            for (RoomRate room : rooms) {
+                int slot = slotsByRoom.size();
+                slotsByRoom.put(room.getId(), slot);
+                basePrices[slot] = Money.orZero(room.getPricePerNight());
+                roomTypes[slot] = ROOM_TYPES.indexOf(room.getRoomType());
+                if (roomTypes[slot] != UNPRICED) {
+                    roomsPerType[roomTypes[slot]]++;
+                }
+            }
+            for (BookingStay booking : bookings) {
+                if (booking.getRoomId() != null && booking.getCheckInDate() != null && booking.getCheckOutDate() != null) {
+                    Stay stay = new Stay(booking.getRoomId(), booking.getCheckInDate().toEpochDay(), booking.getCheckOutDate().toEpochDay());
+                    stays.put(booking.getId(), stay);
+                    count(stay, 1);
+                }
+            }
+            for (int slot = 0; slot < slotsByRoom.size(); slot++) {
+                repriceRoom(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Stay previous = stays.remove(event.bookingId());
+            if (previous != null) {
+                count(previous, -1);
+                repriceNights(previous);
+            }
+            if (!event.deleted() && event.checkInDate() != null && event.checkOutDate() != null) {
+                Stay stay = new Stay(event.roomId(), event.checkInDate().toEpochDay(), event.checkOutDate().toEpochDay());
+                stays.put(event.bookingId(), stay);
+                count(stay, 1);
+                repriceNights(stay);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void roomChanged(Long roomId, String roomType, Long pricePerNight) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByRoom.get(roomId);
+            if (slot == null) {
+                slot = slotsByRoom.size();
+                slotsByRoom.put(roomId, slot);
+                basePrices = Arrays.copyOf(basePrices, slot + 1);
+                roomTypes = Arrays.copyOf(roomTypes, slot + 1);
+                roomTypes[slot] = UNPRICED;
+                grid = Arrays.copyOf(grid, (slot + 1) * horizon);
+            }
+            basePrices[slot] = Money.orZero(pricePerNight);
+            retype(roomId, slot, ROOM_TYPES.indexOf(roomType));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void roomRemoved(Long roomId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsByRoom.get(roomId);
+            if (slot != null) {
+                retype(roomId, slot, UNPRICED);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public PriceQuote quote(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        validateStay(checkIn, checkOut);
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsByRoom.get(roomId);
+            if (slot == null || roomTypes[slot] == UNPRICED) {
+                throw new IllegalArgumentException("Room not found with id: " + roomId);
+            }
+            int from = (int) (checkIn.toEpochDay() - origin);
+            int to = (int) (checkOut.toEpochDay() - origin);
+            int first = slot * horizon + from;
+            int last = slot * horizon + to;
+            return new PriceQuote(roomId, checkIn, checkOut, to - from, Arrays.copyOfRange(grid, first, last),
+                    Money.sum(grid, first, last));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Quotes the same stay for every room in one pass over the grid, adding tax at
+     * {@code hotel.pricing.tax-rate} and taking off the discount the way invoice totals do.
+     * Rooms the grid does not know are left out; the result is ordered by total, cheapest first.
+     */
+    public List<StayQuote> quoteAll(Collection<Long> roomIds, LocalDate checkIn, LocalDate checkOut, long discountAmount) {
+        validateStay(checkIn, checkOut);
+        long[] quotedRooms = new long[roomIds.size()];
+        long[] subtotals = new long[roomIds.size()];
+        int quoted = 0;
+        int nights;
+        lock.readLock().lock();
+        try {
+            int from = (int) (checkIn.toEpochDay() - origin);
+            int to = (int) (checkOut.toEpochDay() - origin);
+            nights = to - from;
+            for (Long roomId : roomIds) {
+                Integer slot = roomId == null ? null : slotsByRoom.get(roomId);
+                if (slot == null || roomTypes[slot] == UNPRICED) {
+                    continue;
+                }
+                quotedRooms[quoted] = roomId;
+                subtotals[quoted++] = Money.sum(grid, slot * horizon + from, slot * horizon + to);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<StayQuote> quotes = new ArrayList<>(quoted);
+        for (int i = 0; i < quoted; i++) {
+            long tax = Money.times(subtotals[i], taxRate);
+            quotes.add(new StayQuote(quotedRooms[i], nights, subtotals[i], tax, discountAmount,
+                    Money.total(subtotals[i], tax, discountAmount)));
+        }
+        quotes.sort(Comparator.comparingLong(StayQuote::totalAmount).thenComparing(StayQuote::roomId));
+        return quotes;
+    }
+
+    private void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) {
+            throw new IllegalArgumentException("Check-in and check-out dates are required");
+        }
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        LocalDate today = LocalDate.now();
+        if (checkIn.isBefore(today)) {
+            throw new IllegalArgumentException("Check-in date must be in the present or future");
+        }
+        if (checkOut.isAfter(today.plusDays(horizon))) {
+            throw new IllegalArgumentException("Quotes are only available up to " + horizon + " days ahead");
+        }
+        if (isStale(today)) {
+            rollForward(today, checkOut);
+        }
+    }
+
+    // After midnight the first quote rebuilds the grid from today. Quotes that arrive meanwhile keep
+    // reading yesterday's grid while their stay fits inside it, and only the rest wait for the new one
+    private void rollForward(LocalDate today, LocalDate checkOut) {
+        if (!rebuilding.tryLock()) {
+            if (covers(checkOut)) {
+                return;
+            }
+            rebuilding.lock();
+        }
+        try {
+            if (isStale(today)) {
+                load();
+            }
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    private boolean isStale(LocalDate today) {
+        lock.readLock().lock();
+        try {
+            return origin != today.toEpochDay();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean covers(LocalDate checkOut) {
+        lock.readLock().lock();
+        try {
+            return checkOut.toEpochDay() - origin <= horizon;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void retype(Long roomId, int slot, int type) {
+        int previousType = roomTypes[slot];
+        if (previousType == type) {
+            repriceRoom(slot);
+            return;
+        }
+        List<Stay> roomStays = stays.values().stream().filter(stay -> stay.roomId().equals(roomId)).toList();
+        roomStays.forEach(stay -> count(stay, -1));
+        if (previousType != UNPRICED) {
+            roomsPerType[previousType]--;
+        }
+        roomTypes[slot] = type;
+        if (type != UNPRICED) {
+            roomsPerType[type]++;
+        }
+        roomStays.forEach(stay -> count(stay, 1));
+        // Occupancy of both types changed on every night
+        for (int other = 0; other < roomTypes.length; other++) {
+            if (roomTypes[other] != UNPRICED && (roomTypes[other] == type || roomTypes[other] == previousType)) {
+                repriceRoom(other);
+            }
+        }
+    }
+
+    private void count(Stay stay, int delta) {
+        Integer slot = slotsByRoom.get(stay.roomId());
+        if (slot == null || roomTypes[slot] == UNPRICED) {
+            return;
+        }
+        int offset = roomTypes[slot] * horizon;
+        for (int day = firstDay(stay); day < lastDay(stay); day++) {
+            bookedPerType[offset + day] += delta;
+        }
+    }
+
+    private void repriceNights(Stay stay) {
+        Integer stayed = slotsByRoom.get(stay.roomId());
+        if (stayed == null || roomTypes[stayed] == UNPRICED) {
+            return;
+        }
+        int type = roomTypes[stayed];
+        for (int slot = 0; slot < roomTypes.length; slot++) {
+            if (roomTypes[slot] == type) {
+                for (int day = firstDay(stay); day < lastDay(stay); day++) {
+                    grid[slot * horizon + day] = price(slot, day);
+                }
+            }
+        }
+    }
+
+    private void repriceRoom(int slot) {
+        for (int day = 0; day < horizon; day++) {
+            grid[slot * horizon + day] = roomTypes[slot] == UNPRICED ? 0L : price(slot, day);
+        }
+    }
+
+    private long price(int slot, int day) {
+        double factor = 1.0;
+        // Epoch day 0 was a Thursday, so Friday and Saturday are 1 and 2
+        int dayOfWeek = (int) Math.floorMod(origin + day, 7L);
+        if (dayOfWeek == 1 || dayOfWeek == 2) {
+            factor *= 1 + weekendUplift;
+        }
+        int type = roomTypes[slot];
+        double occupancy = roomsPerType[type] == 0 ? 0.0 : (double) bookedPerType[type * horizon + day] / roomsPerType[type];
+        if (occupancy > demandThreshold) {
+            factor *= 1 + maxDemandUplift * (occupancy - demandThreshold) / (1 - demandThreshold);
+        }
+        return Money.times(basePrices[slot], factor);
+    }
+
+    private int firstDay(Stay stay) {
+        return (int) Math.max(0, stay.start() - origin);
+    }
+
+    private int lastDay(Stay stay) {
+        return (int) Math.min(horizon, stay.end() - origin);
+    }
+
+    private record Stay(Long roomId, long start, long end) {
+    }
+}
@@ -0,0 +1,228 @@
+package com.hotel.hotel.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import com.hotel.hotel.Model.InvoiceSums;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.RevenueRollup;
+import com.hotel.hotel.Repository.RevenueRollupRepository;
+
+/**
+ * Maintains the revenue_rollups table. Invoice writes add their deltas inside their own transaction;
+ * a rebuild recomputes every row from the invoices table in parallel id-range chunks.
+ */
+@Service
+public class RevenueRollupService {
+    private static final Logger log = LoggerFactory.getLogger(RevenueRollupService.class);
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${hotel.revenue.rebuild-chunk-size:50000}")
+    private long chunkSize;
+
+    @Value("${hotel.revenue.rebuild-threads:4}")
+    private int rebuildThreads;
+
+    @Value("${hotel.bulk.batch-size:50}")
+    private int batchSize;
+
+    // Invoice writers share the read side until their transaction completes; a rebuild takes the
+    // write side so no delta can land between its scan and its replace
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RevenueRollupService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void apply(RevenueRollup... deltas) {
+        apply(Arrays.asList(deltas));
+    }
+
+    // Must run inside the transaction that writes the invoices the deltas describe. Null deltas,
+    // from invoices without a date, are skipped
+    public void apply(Collection<RevenueRollup> deltas) {
+        Map<RevenueRollup.Key, RevenueRollup> merged = merge(deltas);
+        if (merged.isEmpty()) {
+            return;
+        }
+        holdReadLockUntilCompletion();
+        for (RevenueRollup delta : merged.values()) {
+            if (delta.getInvoiceCount() == 0 && delta.getTotalAmount() == 0
+                    && delta.getTaxAmount() == 0 && delta.getDiscountAmount() == 0) {
+                continue;
+            }
+            // Native SQL bypasses the converter, so the amounts are bound as decimals here
+            revenueRollupRepository.addTo(delta.getDay(), delta.getPaymentMethod(), delta.getPaymentStatus(),
+                    delta.getInvoiceCount(), Money.toDecimal(delta.getTotalAmount()), Money.toDecimal(delta.getTaxAmount()),
+                    Money.toDecimal(delta.getDiscountAmount()));
+        }
+    }
+
+    public List<RevenueRollup> getRevenue(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        return revenueRollupRepository.findByDayBetweenOrderByDayAscPaymentMethodAscPaymentStatusAsc(startDate, endDate);
+    }
+
+    public Map<String, Object> rebuild() {
+        long started = System.nanoTime();
+        rebuildLock.writeLock().lock();
+        try {
+            Long minId = revenueRollupRepository.findMinInvoiceId();
+            Long maxId = revenueRollupRepository.findMaxInvoiceId();
+            Map<RevenueRollup.Key, RevenueRollup> rows = new ConcurrentHashMap<>();
+            int chunks = 0;
+            if (minId != null) {
+                List<long[]> ranges = new ArrayList<>();
+                for (long from = minId; from <= maxId; from += chunkSize) {
+                    ranges.add(new long[]{from, Math.min(from + chunkSize - 1, maxId)});
+                }
+                chunks = ranges.size();
+                aggregateInParallel(ranges, rows);
+            }
+            transactionTemplate.executeWithoutResult(status -> replaceAll(rows.values()));
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("chunks", chunks);
+            result.put("rows", rows.size());
+            result.put("invoices", rows.values().stream().mapToLong(RevenueRollup::getInvoiceCount).sum());
+            result.put("millis", (System.nanoTime() - started) / 1_000_000);
+            return result;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    // Invoices written before the rollup existed are counted on startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (revenueRollupRepository.count() == 0 && revenueRollupRepository.findMinInvoiceId() != null) {
+            log.info("Revenue rollups are empty, rebuilding from invoices: {}", rebuild());
+        }
+    }
+
+    private void aggregateInParallel(List<long[]> ranges, Map<RevenueRollup.Key, RevenueRollup> rows) {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(rebuildThreads, ranges.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long[] range : ranges) {
+                futures.add(pool.submit(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                    for (RevenueRollup partial : aggregate(revenueRollupRepository.aggregateInvoices(range[0], range[1]))) {
+                        rows.merge(partial.key(), partial, (existing, added) -> {
+                            RevenueRollup sum = copy(existing);
+                            sum.add(added);
+                            return sum;
+                        });
+                    }
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Revenue rollup rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Revenue rollup rebuild failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Cents add up exactly, so the chunks can be summed in any order and still match the deltas
+    private static List<RevenueRollup> aggregate(List<InvoiceSums> sums) {
+        List<RevenueRollup> rows = new ArrayList<>(sums.size());
+        for (InvoiceSums sum : sums) {
+            rows.add(new RevenueRollup(sum.getRevenueDate(), sum.getPaymentMethod(), sum.getPaymentStatus(),
+                    sum.getInvoiceCount(), Money.of(sum.getTotalAmount()), Money.of(sum.getTaxAmount()),
+                    Money.of(sum.getDiscountAmount())));
+        }
+        return rows;
+    }
+
+    private void replaceAll(Collection<RevenueRollup> rows) {
+        revenueRollupRepository.deleteAllInBatch();
+        int written = 0;
+        for (RevenueRollup row : rows) {
+            entityManager.persist(row);
+            if (++written % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void holdReadLockUntilCompletion() {
+        Lock readLock = rebuildLock.readLock();
+        readLock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            readLock.unlock();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                readLock.unlock();
+            }
+        });
+    }
+
+    private static Map<RevenueRollup.Key, RevenueRollup> merge(Collection<RevenueRollup> deltas) {
+        Map<RevenueRollup.Key, RevenueRollup> merged = new LinkedHashMap<>();
+        for (RevenueRollup delta : deltas) {
+            if (delta == null) {
+                continue;
+            }
+            RevenueRollup existing = merged.get(delta.key());
+            if (existing == null) {
+                merged.put(delta.key(), copy(delta));
+            } else {
+                existing.add(delta);
+            }
+        }
+        return merged;
+    }
+
+    private static RevenueRollup copy(RevenueRollup row) {
+        return new RevenueRollup(row.getDay(), row.getPaymentMethod(), row.getPaymentStatus(),
+                row.getInvoiceCount(), row.getTotalAmount(), row.getTaxAmount(), row.getDiscountAmount());
+    }
+}
@@ -0,0 +1,72 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import com.hotel.hotel.Model.Room;
+
+/**
+ * Names of the room catalog caches and the write-side invalidation RoomService applies to them.
+ */
+@Component
+public class RoomCache {
+    public static final String BY_ID = "rooms";
+    public static final String PAGES = "roomPages";
+    public static final String BY_TYPE = "roomsByType";
+    public static final String BY_STATUS = "roomsByStatus";
+    public static final String SEARCH = "roomSearch";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public void roomCreated(Room room) {
+        cache(BY_ID).put(room.getId(), room);
+        evictLists(room);
+    }
+
+    public void roomUpdated(RoomKeys before, Room after) {
+        cache(BY_ID).put(after.getId(), after);
+        evictLists(after);
+        if (before.roomType() != null) {
+            cache(BY_TYPE).evict(before.roomType().toUpperCase());
+        }
+        if (before.roomStatus() != null) {
+            cache(BY_STATUS).evict(before.roomStatus().toUpperCase());
+        }
+    }
+
+    public void roomDeleted(RoomKeys before) {
+        cache(BY_ID).evict(before.id());
+        cache(PAGES).clear();
+        cache(SEARCH).clear();
+        if (before.roomType() != null) {
+            cache(BY_TYPE).evict(before.roomType().toUpperCase());
+        }
+        if (before.roomStatus() != null) {
+            cache(BY_STATUS).evict(before.roomStatus().toUpperCase());
+        }
+    }
+
+    // Pages and searches can contain any room, so they are dropped on every write
+    private void evictLists(Room room) {
+        cache(PAGES).clear();
+        cache(SEARCH).clear();
+        cache(BY_TYPE).evict(room.getRoomType().toUpperCase());
+        cache(BY_STATUS).evict(room.getRoomStatus().toUpperCase());
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + name + " is not configured");
+        }
+        return cache;
+    }
+
+    public record RoomKeys(Long id, String roomType, String roomStatus) {
+        public static RoomKeys of(Room room) {
+            return new RoomKeys(room.getId(), room.getRoomType(), room.getRoomStatus());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.hotel.hotel.Model.BookingChangedEvent;
+import com.hotel.hotel.Model.RoomChangedEvent;
+
+/**
+ * Pushes room and booking changes to {@code /rooms/events} subscribers. Each subscriber keeps only
+ * the latest pending change per room and kind, in a buffer of at most {@code hotel.room-events.buffer-size}
+ * rooms. A subscriber that falls further behind has its buffer dropped and gets a single
+ * {@code resync} event, after which it should reload the rooms it shows.
+ */
+@Component
+public class RoomEventStream {
+    public static final String ROOM = "room";
+    public static final String BOOKING = "booking";
+    public static final String RESYNC = "resync";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Counter resyncs;
+    private final ExecutorService sender;
+
+    public RoomEventStream(MeterRegistry registry,
+                           @Value("${hotel.room-events.buffer-size:256}") int bufferSize,
+                           @Value("${hotel.room-events.max-subscribers:500}") int maxSubscribers,
+                           @Value("${hotel.room-events.timeout:PT30M}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger counter = new AtomicInteger();
+        // A write to a client that stopped reading blocks until the container times it out, so each
+        // subscriber drains on its own thread and a stalled one cannot hold up the others. A subscriber
+        // has at most one drain running, so there are never more threads than subscribers, and threads
+        // only live while there is something to send
+        this.sender = new ThreadPoolExecutor(0, maxSubscribers, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "room-events-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.resyncs = Counter.builder("hotel.room.events.resyncs")
+                .description("Subscribers whose buffer overflowed and were told to resync").register(registry);
+        Gauge.builder("hotel.room.events.subscribers", subscribers, Set::size)
+                .description("Open room event streams").register(registry);
+    }
+
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new RejectedExecutionException("Too many room event subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onRoomChanged(RoomChangedEvent event) {
+        publish(ROOM, ROOM + ":" + event.roomId(), event);
+    }
+
+    // A burst of bookings for one room reaches a slow client as the last one only; either way the
+    // client has to recheck that room's availability
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        publish(BOOKING, BOOKING + ":" + event.roomId(), event);
+    }
+
+    private void publish(String name, String key, Object data) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(key, new Pending(name, data));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        sender.shutdownNow();
+    }
+
+    private record Pending(String name, Object data) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        // Latest change per key in first-arrival order, so a busy room cannot starve the others
+        private final Map<String, Pending> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void offer(String key, Pending event) {
+            if (closed || overflowed) {
+                return;
+            }
+            if (!pending.containsKey(key) && pending.size() >= bufferSize) {
+                pending.clear();
+                overflowed = true;
+                resyncs.increment();
+            } else {
+                pending.put(key, event);
+            }
+            if (!draining) {
+                draining = true;
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Only past max-subscribers or after shutdown; the client reconnects and resyncs
+                    draining = false;
+                    emitter.complete();
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                List<Pending> batch;
+                synchronized (this) {
+                    if (overflowed) {
+                        batch = List.of(new Pending(RESYNC, Map.of("reason", "buffer overflow")));
+                        overflowed = false;
+                    } else if (!pending.isEmpty()) {
+                        batch = new ArrayList<>(pending.values());
+                        pending.clear();
+                    } else {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    for (Pending event : batch) {
+                        emitter.send(SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // The container completes the emitter itself once the connection is gone
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.hotel.hotel.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped per-room locks: reservations for different rooms proceed in parallel while writers for the
+ * same room are serialised. Multi-room callers take stripes in index order so they cannot deadlock.
+ */
+@Component
+public class RoomLocks {
+    private final ReentrantLock[] stripes;
+
+    public RoomLocks(@Value("${hotel.booking.lock-stripes:256}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Lock stripe count must be positive");
+        }
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public ReentrantLock forRoom(Long roomId) {
+        return stripes[stripeOf(roomId)];
+    }
+
+    public List<ReentrantLock> forRooms(Collection<Long> roomIds) {
+        return roomIds.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .mapToObj(stripe -> stripes[stripe])
+                .toList();
+    }
+
+    private int stripeOf(Long roomId) {
+        int hash = roomId == null ? 0 : Long.hashCode(roomId);
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, stripes.length);
+    }
+}
@@ -0,0 +1,68 @@
+package com.hotel.hotel.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Model.RoomNight;
+import com.hotel.hotel.Repository.RoomNightRepository;
+
+/**
+ * Writes the room_nights rows that back each booking. Must be called inside the transaction that
+ * saves the booking, so a unique-constraint violation rolls the whole reservation back.
+ */
+@Component
+public class RoomNightLedger {
+    private static final Logger log = LoggerFactory.getLogger(RoomNightLedger.class);
+
+    @Autowired
+    private RoomNightRepository roomNightRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public void reserve(Long bookingId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        try {
+            roomNightRepository.saveAllAndFlush(nights(bookingId, roomId, checkIn, checkOut));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Room is already booked for the selected dates");
+        }
+    }
+
+    public void release(Long bookingId) {
+        roomNightRepository.deleteByBookingId(bookingId);
+    }
+
+    public List<RoomNight> nights(Long bookingId, Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        List<RoomNight> nights = new ArrayList<>();
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            nights.add(new RoomNight(null, roomId, night, bookingId));
+        }
+        return nights;
+    }
+
+    // Bookings created before the ledger existed get their nights on startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (BookingStay stay : roomNightRepository.findStaysWithoutNights()) {
+            if (stay.getRoomId() == null || stay.getCheckInDate() == null || stay.getCheckOutDate() == null) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        reserve(stay.getId(), stay.getRoomId(), stay.getCheckInDate(), stay.getCheckOutDate()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Booking {} overlaps another booking on room {} and was left out of the room night ledger",
+                        stay.getId(), stay.getRoomId());
+            }
+        }
+    }
+}
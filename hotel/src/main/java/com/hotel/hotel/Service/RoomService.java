@@ -1,40 +1,92 @@
 package com.hotel.hotel.Service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import com.hotel.hotel.Model.CursorPage;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.PageCursor;
+import com.hotel.hotel.Model.QuoteRequest;
 import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.RoomChangedEvent;
+import com.hotel.hotel.Model.StayQuote;
+import com.hotel.hotel.Model.VersionStamp;
 import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.RoomSpecifications;
 
 @Service
 public class RoomService {
     @Autowired
     private RoomRepository roomRepository;
 
-    public List<Room> getAllRooms() {
-        return roomRepository.findAll();
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private RoomCache roomCache;
+
+    @Autowired
+    private EntityValidator entityValidator;
+
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_QUOTED_ROOMS = 1000;
+
+    @Cacheable(cacheNames = RoomCache.PAGES, key = "{#cursor, #size}")
+    public CursorPage<Room> getRooms(String cursor, int size) {
+        KeysetPages.validateSize(size);
+        Long afterId = cursor == null ? 0L : PageCursor.parse(cursor, "id").id();
+        List<Room> rows = roomRepository.findByIdGreaterThanOrderByIdAsc(afterId, KeysetPages.probe(size));
+        return KeysetPages.page(rows, size, room -> new PageCursor("id", null, room.getId()));
+    }
+
+    public VersionStamp getVersionStamp() {
+        return roomRepository.findVersionStamp();
+    }
+
+    public VersionStamp getVersionStamp(Long id) {
+        return roomRepository.findVersionStampById(id);
     }
 
+    @Cacheable(cacheNames = RoomCache.BY_ID, key = "#id")
     public Optional<Room> getRoomById(Long id) {
         return roomRepository.findById(id);
     }
 
     public Room createRoom(Room room) {
-        validateRoom(room);
+        entityValidator.validateRoom(room);
         // Check if room number already exists
         if (roomRepository.findByRoomNumber(room.getRoomNumber()).isPresent()) {
             throw new IllegalArgumentException("Room number already exists");
         }
-        return roomRepository.save(room);
+        Room savedRoom = roomRepository.save(room);
+        roomCache.roomCreated(savedRoom);
+        pricingEngine.roomChanged(savedRoom.getId(), savedRoom.getRoomType(), savedRoom.getPricePerNight());
+        eventPublisher.publishEvent(RoomChangedEvent.saved(savedRoom));
+        return savedRoom;
     }
 
     public Room updateRoom(Long id, Room roomDetails) {
         Optional<Room> roomOpt = roomRepository.findById(id);
         if (roomOpt.isPresent()) {
-            validateRoom(roomDetails);
+            entityValidator.validateRoom(roomDetails);
             Room existingRoom = roomOpt.get();
+            RoomCache.RoomKeys before = RoomCache.RoomKeys.of(existingRoom);
             
             // Check if new room number already exists (if changed)
             if (!existingRoom.getRoomNumber().equals(roomDetails.getRoomNumber()) &&
@@ -51,27 +103,39 @@ public class RoomService {
             existingRoom.setSmokingAllowed(roomDetails.getSmokingAllowed());
             existingRoom.setFloorNumber(roomDetails.getFloorNumber());
             
-            return roomRepository.save(existingRoom);
+            Room savedRoom = roomRepository.save(existingRoom);
+            roomCache.roomUpdated(before, savedRoom);
+            pricingEngine.roomChanged(savedRoom.getId(), savedRoom.getRoomType(), savedRoom.getPricePerNight());
+            eventPublisher.publishEvent(RoomChangedEvent.saved(savedRoom));
+            return savedRoom;
         }
         return null;
     }
 
     public void deleteRoom(Long id) {
-        if (!roomRepository.existsById(id)) {
+        Optional<Room> roomOpt = roomRepository.findById(id);
+        if (roomOpt.isEmpty()) {
             throw new IllegalArgumentException("Room not found with id: " + id);
         }
         roomRepository.deleteById(id);
+        roomCache.roomDeleted(RoomCache.RoomKeys.of(roomOpt.get()));
+        availabilityIndex.removeRoom(id);
+        pricingEngine.roomRemoved(id);
+        eventPublisher.publishEvent(RoomChangedEvent.deleted(roomOpt.get()));
     }
 
+    @Cacheable(cacheNames = RoomCache.BY_TYPE, key = "#roomType.toUpperCase()")
     public List<Room> getRoomsByType(String roomType) {
         return roomRepository.findByRoomType(roomType.toUpperCase());
     }
 
+    @Cacheable(cacheNames = RoomCache.BY_STATUS, key = "#status.toUpperCase()")
     public List<Room> getRoomsByStatus(String status) {
         return roomRepository.findByRoomStatus(status.toUpperCase());
     }
 
-    public List<Room> searchRooms(Double minPrice, Double maxPrice, Integer minCapacity, 
+    @Cacheable(cacheNames = RoomCache.SEARCH)
+    public List<Room> searchRooms(Long minPrice, Long maxPrice, Integer minCapacity, 
                                 String roomType, String smokingAllowed, Integer floorNumber) {
         List<Room> rooms = roomRepository.findAll();
         
@@ -85,31 +149,53 @@ public class RoomService {
             .collect(Collectors.toList());
     }
 
-    public List<Room> getAvailableRooms() {
-        return roomRepository.findByRoomStatus("AVAILABLE");
-    }
-
-    private void validateRoom(Room room) {
-        if (room.getRoomNumber() == null || !room.getRoomNumber().matches("^[A-Z]\\d{3}$")) {
-            throw new IllegalArgumentException("Room number must be 1 uppercase letter followed by 3 digits (e.g., A101)");
-        }
-        if (room.getRoomType() == null || !room.getRoomType().matches("^(SINGLE|DOUBLE|SUITE|DELUXE)$")) {
-            throw new IllegalArgumentException("Room type must be either SINGLE, DOUBLE, SUITE, or DELUXE");
+    public Page<Room> searchAvailableRooms(LocalDate checkIn, LocalDate checkOut,
+                                           Long minPrice, Long maxPrice, Integer minCapacity,
+                                           String roomType, String smokingAllowed, Integer floorNumber,
+                                           int page, int size) {
+        if (checkIn == null || checkOut == null || !checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
         }
-        if (room.getCapacity() == null || room.getCapacity() < 1 || room.getCapacity() > 6) {
-            throw new IllegalArgumentException("Room capacity must be between 1 and 6 persons");
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
         }
-        if (room.getPricePerNight() == null || room.getPricePerNight() < 100.0 || room.getPricePerNight() > 10000.0) {
-            throw new IllegalArgumentException("Room price must be between 100 and 10000 per night");
-        }
-        if (room.getRoomStatus() == null || !room.getRoomStatus().matches("^(AVAILABLE|OCCUPIED|MAINTENANCE|RESERVED)$")) {
-            throw new IllegalArgumentException("Room status must be either AVAILABLE, OCCUPIED, MAINTENANCE, or RESERVED");
+        return roomRepository.findAll(
+                RoomSpecifications.matchesFilters(minPrice, maxPrice, minCapacity, roomType, smokingAllowed, floorNumber)
+                        .and(RoomSpecifications.freeBetween(checkIn, checkOut)),
+                PageRequest.of(page, size, Sort.by("pricePerNight", "id")));
+    }
+
+    // One room query for filter requests and none for explicit room ids; prices come from the grid
+    public List<StayQuote> quoteRooms(QuoteRequest request) {
+        if (request.getCheckIn() == null || request.getCheckOut() == null || !request.getCheckOut().isAfter(request.getCheckIn())) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
         }
-        if (room.getSmokingAllowed() != null && !room.getSmokingAllowed().matches("^(YES|NO)$")) {
-            throw new IllegalArgumentException("Smoking allowed must be either YES or NO");
+        if (request.getDiscountAmount() != null && request.getDiscountAmount() < 0) {
+            throw new IllegalArgumentException("Discount amount cannot be negative");
         }
-        if (room.getFloorNumber() == null || room.getFloorNumber() < 1 || room.getFloorNumber() > 20) {
-            throw new IllegalArgumentException("Floor number must be between 1 and 20");
+        List<Long> roomIds = request.getRoomIds();
+        if (roomIds != null && !roomIds.isEmpty()) {
+            if (roomIds.size() > MAX_QUOTED_ROOMS) {
+                throw new IllegalArgumentException("At most " + MAX_QUOTED_ROOMS + " rooms can be quoted at once");
+            }
+            roomIds = roomIds.stream().filter(Objects::nonNull).distinct()
+                    .filter(id -> !request.isAvailableOnly()
+                            || availabilityIndex.isAvailable(id, request.getCheckIn(), request.getCheckOut()))
+                    .toList();
+        } else {
+            Specification<Room> filters = RoomSpecifications.matchesFilters(request.getMinPrice(), request.getMaxPrice(),
+                    request.getMinCapacity(), request.getRoomType(), request.getSmokingAllowed(), request.getFloorNumber());
+            if (request.isAvailableOnly()) {
+                filters = filters.and(RoomSpecifications.freeBetween(request.getCheckIn(), request.getCheckOut()));
+            }
+            roomIds = roomRepository.findAll(filters).stream().map(Room::getId).toList();
         }
+        return pricingEngine.quoteAll(roomIds, request.getCheckIn(), request.getCheckOut(),
+                Money.orZero(request.getDiscountAmount()));
+    }
+
+    @Cacheable(cacheNames = RoomCache.BY_STATUS, key = "'AVAILABLE'")
+    public List<Room> getAvailableRooms() {
+        return roomRepository.findByRoomStatus("AVAILABLE");
     }
 }
@@ -0,0 +1,353 @@
+package com.hotel.hotel.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.BulkResult;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.PasswordHasher;
+
+/**
+ * Fills an empty database with rooms, users, bookings and invoices drawn from a seeded random
+ * source, so the same plan always produces the same data relative to the day it runs. Rows go
+ * through the services' create and bulk paths, so the night ledger, availability index, price grid
+ * and revenue rollups see them exactly as they would see API traffic. Runs at startup when
+ * {@code hotel.seed.enabled} is set, which the {@code local} profile does.
+ */
+@Service
+public class SyntheticDataGenerator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // Room numbers are one letter and three digits, so there are 26 wings of 1000 rooms
+    public static final int MAX_ROOMS = 26 * 1000;
+    // Every generated user can log in with this password
+    public static final String PASSWORD = "Pass123@";
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "SUITE", "DELUXE"};
+    private static final double[] ROOM_TYPE_WEIGHTS = {0.30, 0.45, 0.17, 0.08};
+    private static final double[] BASE_PRICES = {150, 250, 900, 2400};
+    private static final int[] MAX_CAPACITY = {1, 3, 4, 6};
+    private static final String[] ROOM_STATUSES = {"AVAILABLE", "OCCUPIED", "MAINTENANCE", "RESERVED"};
+    private static final double[] ROOM_STATUS_WEIGHTS = {0.70, 0.20, 0.03, 0.07};
+    private static final int[] STAY_NIGHTS = {1, 2, 3, 4, 5, 7, 10, 14};
+    private static final double[] STAY_NIGHT_WEIGHTS = {0.22, 0.25, 0.20, 0.11, 0.08, 0.09, 0.03, 0.02};
+    private static final String[] PAYMENT_STATUSES = {"PAID", "PENDING", "CANCELLED", "REFUNDED"};
+    private static final double[] PAYMENT_STATUS_WEIGHTS = {0.62, 0.28, 0.06, 0.04};
+    private static final String[] PAYMENT_METHODS = {"CREDIT_CARD", "CASH", "DEBIT_CARD", "BANK_TRANSFER"};
+    private static final double[] PAYMENT_METHOD_WEIGHTS = {0.48, 0.22, 0.20, 0.10};
+    private static final String[] FIRST_NAMES = {"Mohammed", "Ahmed", "Omar", "Youssef", "Mariam", "Nour",
+            "Salma", "Laila", "Karim", "Hana", "Ali", "Farida", "Mostafa", "Yasmin", "Tarek", "Dina"};
+    private static final String[] LAST_NAMES = {"Amr", "Hassan", "Ibrahim", "Mahmoud", "Said", "Fathy",
+            "Mansour", "Nasser", "Saleh", "Khalil", "Farouk", "Zaki", "Hamdy", "Rashad"};
+    private static final String[] STREETS = {"Nile Street", "Tahrir Square", "Corniche Road", "Pyramids Road",
+            "Salah Salem Street", "Abbas Bridge Road", "Port Said Street", "Gamaat Street"};
+    private static final String[] CITIES = {"Cairo", "Giza", "Alexandria", "Luxor", "Aswan", "Hurghada"};
+    private static final String[] OPERATORS = {"0", "1", "2", "5"};
+    private static final double TAX_RATE = 0.14;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityValidator entityValidator;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Value("${hotel.seed.enabled:false}")
+    private boolean enabled;
+
+    @Value("${hotel.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${hotel.seed.rooms:500}")
+    private int rooms;
+
+    @Value("${hotel.seed.users:2000}")
+    private int users;
+
+    @Value("${hotel.seed.bookings:5000}")
+    private int bookings;
+
+    @Value("${hotel.seed.invoice-ratio:0.9}")
+    private double invoiceRatio;
+
+    @Value("${hotel.seed.horizon-days:365}")
+    private int horizonDays;
+
+    @Value("${hotel.bulk.max-items:10000}")
+    private int chunkSize;
+
+    public record Plan(int rooms, int users, int bookings, double invoiceRatio, int horizonDays, long randomSeed) {
+        public Plan {
+            if (rooms < 1 || rooms > MAX_ROOMS) {
+                throw new IllegalArgumentException("Rooms must be between 1 and " + MAX_ROOMS);
+            }
+            if (users < 1 || bookings < 0 || horizonDays < 1) {
+                throw new IllegalArgumentException("Users and horizon must be positive and bookings not negative");
+            }
+            if (invoiceRatio < 0.0 || invoiceRatio > 1.0) {
+                throw new IllegalArgumentException("Invoice ratio must be between 0 and 1");
+            }
+        }
+    }
+
+    public record Generated(List<Long> roomIds, List<Long> userIds, List<Long> bookingIds, List<Long> invoiceIds) {
+    }
+
+    // The bulk path swaps the booking's room and user for proxies, so what invoices need is kept aside
+    private record Stay(Booking booking, Long userId, long pricePerNight) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        Generated generated = generate(new Plan(rooms, users, bookings, invoiceRatio, horizonDays, randomSeed));
+        log.info("Generated {} rooms, {} users, {} bookings and {} invoices in {} ms",
+                generated.roomIds().size(), generated.userIds().size(), generated.bookingIds().size(),
+                generated.invoiceIds().size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public Generated generate(Plan plan) {
+        SplittableRandom random = new SplittableRandom(plan.randomSeed());
+        List<Room> savedRooms = createRooms(plan, random);
+        List<Long> userIds = createUsers(plan, random);
+        List<Stay> stays = createBookings(plan, random, savedRooms, userIds);
+        List<Long> invoiceIds = createInvoices(plan, random, stays);
+        return new Generated(savedRooms.stream().map(Room::getId).toList(), userIds,
+                stays.stream().map(stay -> stay.booking().getId()).toList(), invoiceIds);
+    }
+
+    private List<Room> createRooms(Plan plan, SplittableRandom random) {
+        List<Room> saved = new ArrayList<>(plan.rooms());
+        for (int i = 0; i < plan.rooms(); i++) {
+            int type = pick(random, ROOM_TYPE_WEIGHTS);
+            Room room = new Room();
+            room.setRoomNumber(String.format("%c%03d", (char) ('A' + i / 1000), i % 1000));
+            room.setRoomType(ROOM_TYPES[type]);
+            room.setCapacity(1 + random.nextInt(MAX_CAPACITY[type]));
+            // Higher floors cost a little more, on top of +/-15% per room
+            int floor = 1 + (i % 1000) / 50;
+            double price = BASE_PRICES[type] * (1 + floor * 0.01) * (0.85 + random.nextDouble() * 0.3);
+            room.setPricePerNight(Math.round(Math.min(10000.0, Math.max(100.0, price)) * 100));
+            room.setRoomStatus(ROOM_STATUSES[pick(random, ROOM_STATUS_WEIGHTS)]);
+            room.setDescription(ROOM_TYPES[type].charAt(0) + ROOM_TYPES[type].substring(1).toLowerCase()
+                    + (random.nextInt(3) == 0 ? " room with a sea view" : " room facing the city"));
+            room.setSmokingAllowed(random.nextInt(10) == 0 ? "YES" : "NO");
+            room.setFloorNumber(floor);
+            saved.add(roomService.createRoom(room));
+        }
+        return saved;
+    }
+
+    // BCrypt per user would dominate the run, so every user shares one hash of PASSWORD
+    private List<Long> createUsers(Plan plan, SplittableRandom random) {
+        String passwordHash = passwordHasher.encode(PASSWORD);
+        List<Long> ids = new ArrayList<>(plan.users());
+        List<User> chunk = new ArrayList<>();
+        for (int i = 0; i < plan.users(); i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            User user = new User();
+            user.setFirstName(first);
+            user.setLastName(last);
+            user.setEmail((first + "." + last + "." + i + "@example.com").toLowerCase());
+            user.setPassword(PASSWORD);
+            user.setPhoneNumber(String.format("+201%s%08d", OPERATORS[random.nextInt(OPERATORS.length)],
+                    random.nextInt(100_000_000)));
+            user.setAddress(String.format("%d %s, %s", 1 + random.nextInt(200),
+                    STREETS[random.nextInt(STREETS.length)], CITIES[random.nextInt(CITIES.length)]));
+            user.setUserRole(random.nextInt(100) < 2 ? "STAFF" : "USER");
+            entityValidator.validateUser(user);
+            user.setPassword(passwordHash);
+            chunk.add(user);
+            if (chunk.size() == chunkSize || i == plan.users() - 1) {
+                userRepository.saveAll(chunk).forEach(savedUser -> ids.add(savedUser.getId()));
+                chunk.clear();
+            }
+        }
+        return ids;
+    }
+
+    // Each room is booked forward from today with short gaps, so stays never overlap. Popular room
+    // types fill faster, and a minority of repeat guests makes most of the bookings.
+    private List<Stay> createBookings(Plan plan, SplittableRandom random, List<Room> savedRooms, List<Long> userIds) {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(plan.horizonDays());
+        LocalDate[] nextFree = new LocalDate[savedRooms.size()];
+        for (int i = 0; i < nextFree.length; i++) {
+            nextFree[i] = today.plusDays(random.nextInt(14));
+        }
+        boolean[] full = new boolean[savedRooms.size()];
+        int fullRooms = 0;
+        List<Stay> stays = new ArrayList<>(plan.bookings());
+        List<Stay> chunk = new ArrayList<>();
+        int sequence = 0;
+        while (sequence < plan.bookings() && fullRooms < savedRooms.size()) {
+            int room = popularRoom(random, savedRooms);
+            if (full[room]) {
+                continue;
+            }
+            LocalDate checkIn = nextFree[room].plusDays(gapDays(random));
+            LocalDate checkOut = checkIn.plusDays(STAY_NIGHTS[pick(random, STAY_NIGHT_WEIGHTS)]);
+            if (checkOut.isAfter(horizon)) {
+                full[room] = true;
+                fullRooms++;
+                continue;
+            }
+            nextFree[room] = checkOut;
+
+            Room savedRoom = savedRooms.get(room);
+            Long userId = userIds.get(repeatGuest(random, userIds.size()));
+            int prefix = sequence / 10000;
+            Booking booking = new Booking();
+            booking.setBookingNumber(String.format("%c%c%c-%04d", (char) ('A' + prefix / 676 % 26),
+                    (char) ('A' + prefix / 26 % 26), (char) ('A' + prefix % 26), sequence % 10000));
+            booking.setCheckInDate(checkIn);
+            booking.setCheckOutDate(checkOut);
+            booking.setRoom(roomReference(savedRoom.getId()));
+            booking.setUser(userReference(userId));
+            chunk.add(new Stay(booking, userId, savedRoom.getPricePerNight()));
+            sequence++;
+            if (chunk.size() == chunkSize) {
+                saveBookings(chunk, stays);
+            }
+        }
+        saveBookings(chunk, stays);
+        return stays;
+    }
+
+    private void saveBookings(List<Stay> chunk, List<Stay> stays) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        BulkResult result = bookingService.createBookings(chunk.stream().map(Stay::booking).toList());
+        if (result.getRejected() > 0) {
+            throw new IllegalStateException("Generated booking rejected: " + result.getErrors().get(0).getMessage());
+        }
+        stays.addAll(chunk);
+        chunk.clear();
+    }
+
+    private List<Long> createInvoices(Plan plan, SplittableRandom random, List<Stay> stays) {
+        List<Long> ids = new ArrayList<>();
+        List<Invoice> chunk = new ArrayList<>();
+        for (Stay stay : stays) {
+            if (random.nextDouble() < plan.invoiceRatio()) {
+                chunk.add(invoice(random, stay));
+            }
+            if (chunk.size() == chunkSize) {
+                saveInvoices(chunk, ids);
+            }
+        }
+        saveInvoices(chunk, ids);
+        return ids;
+    }
+
+    private void saveInvoices(List<Invoice> chunk, List<Long> ids) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        BulkResult result = invoiceService.createInvoices(chunk);
+        if (result.getRejected() > 0) {
+            throw new IllegalStateException("Generated invoice rejected: " + result.getErrors().get(0).getMessage());
+        }
+        ids.addAll(result.getIds());
+        chunk.clear();
+    }
+
+    private Invoice invoice(SplittableRandom random, Stay stay) {
+        Booking booking = stay.booking();
+        long nights = booking.getCheckInDate().datesUntil(booking.getCheckOutDate()).count();
+        long amount = stay.pricePerNight() * nights;
+        Booking bookingReference = new Booking();
+        bookingReference.setId(booking.getId());
+        Invoice invoice = new Invoice();
+        invoice.setBooking(bookingReference);
+        invoice.setUser(userReference(stay.userId()));
+        invoice.setTotalAmount(amount);
+        invoice.setTaxAmount(Money.times(amount, TAX_RATE));
+        // One stay in ten gets a 5-15% discount
+        invoice.setDiscountAmount(random.nextInt(10) == 0
+                ? Money.times(amount, 0.05 + random.nextDouble() * 0.10) : 0L);
+        invoice.setPaymentStatus(PAYMENT_STATUSES[pick(random, PAYMENT_STATUS_WEIGHTS)]);
+        invoice.setPaymentMethod(PAYMENT_METHODS[pick(random, PAYMENT_METHOD_WEIGHTS)]);
+        return invoice;
+    }
+
+    // Picks a room with probability proportional to its type's popularity
+    private static int popularRoom(SplittableRandom random, List<Room> savedRooms) {
+        while (true) {
+            int room = random.nextInt(savedRooms.size());
+            String type = savedRooms.get(room).getRoomType();
+            for (int t = 0; t < ROOM_TYPES.length; t++) {
+                if (ROOM_TYPES[t].equals(type) && random.nextDouble() < ROOM_TYPE_WEIGHTS[t] / ROOM_TYPE_WEIGHTS[1]) {
+                    return room;
+                }
+            }
+        }
+    }
+
+    // Mostly back-to-back, with a geometric tail of idle nights
+    private static int gapDays(SplittableRandom random) {
+        int gap = 0;
+        while (random.nextDouble() < 0.45 && gap < 21) {
+            gap++;
+        }
+        return gap;
+    }
+
+    // Squaring a uniform draw skews towards low indexes: the first 10% of users make about 30% of bookings
+    private static int repeatGuest(SplittableRandom random, int users) {
+        double u = random.nextDouble();
+        return (int) (u * u * users);
+    }
+
+    private static int pick(SplittableRandom random, double[] weights) {
+        double r = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static Room roomReference(Long id) {
+        Room room = new Room();
+        room.setId(id);
+        return room;
+    }
+
+    private static User userReference(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -6,10 +6,15 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import com.hotel.hotel.Model.CursorPage;
+import com.hotel.hotel.Model.PageCursor;
 import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Model.UserSummary;
+import com.hotel.hotel.Model.VersionStamp;
 import com.hotel.hotel.Repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.hotel.hotel.Security.PasswordHasher;
+import com.hotel.hotel.Security.TokenService;
 
 
 
@@ -17,10 +22,29 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class UserService {
     @Autowired
     private UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private EntityValidator entityValidator;
+
+    public CursorPage<UserSummary> getUsers(String cursor, int size) {
+        KeysetPages.validateSize(size);
+        Long afterId = cursor == null ? 0L : PageCursor.parse(cursor, "id").id();
+        List<UserSummary> rows = userRepository.findSummariesByIdGreaterThanOrderByIdAsc(afterId, KeysetPages.probe(size));
+        return KeysetPages.page(rows, size, user -> new PageCursor("id", null, user.id()));
+    }
+
+    public VersionStamp getVersionStamp() {
+        return userRepository.findVersionStamp();
+    }
+
+    public VersionStamp getVersionStamp(Long id) {
+        return userRepository.findVersionStampById(id);
     }
 
     public Optional<User> getUserById(Long id) {
@@ -29,13 +53,13 @@ public class UserService {
 
     public Map<String, Object> createUser(User user) {
         Map<String, Object> response = new HashMap<>();
-        validateUser(user);
+        entityValidator.validateUser(user);
         
         if (userRepository.findByEmail(user.getEmail()).isPresent()) {
             throw new IllegalArgumentException("Email already exists");
         }
         
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
         User savedUser = userRepository.save(user);
         
         response.put("message", "User registered successfully");
@@ -44,25 +68,36 @@ public class UserService {
         return response;
     }
 
-    public Map<String, Object> getUserLogin(String email, String password) {
+    public CompletableFuture<Map<String, Object>> getUserLogin(String email, String password) {
         Optional<User> userOpt = userRepository.findByEmail(email);
-        if (userOpt.isPresent() && passwordEncoder.matches(password, userOpt.get().getPassword())) {
-            User user = userOpt.get();
+        if (userOpt.isEmpty() || password == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        User user = userOpt.get();
+        return passwordHasher.matchesAsync(password, user.getPassword()).thenApply(matches -> {
+            if (!matches) {
+                return null;
+            }
             Map<String, Object> response = new HashMap<>();
             response.put("id", user.getId());
             response.put("email", user.getEmail());
             response.put("firstName", user.getFirstName());
             response.put("lastName", user.getLastName());
             response.put("role", user.getUserRole());
+            response.put("token", tokenService.issue(user));
+            response.put("expiresIn", tokenService.getTtl().toSeconds());
             return response;
-        }
-        return null;
+        });
+    }
+
+    public void logout(String token) {
+        tokenService.revoke(token);
     }
 
     public User updateUser(Long id, User userDetails) {
         Optional<User> userOpt = userRepository.findById(id);
         if (userOpt.isPresent()) {
-            validateUserUpdate(userDetails);
+            entityValidator.validateUserUpdate(userDetails);
             User existingUser = userOpt.get();
             
             // Update basic information
@@ -89,7 +124,7 @@ public class UserService {
             
             // Update password if provided
             if (userDetails.getPassword() != null && !userDetails.getPassword().isEmpty()) {
-                existingUser.setPassword(passwordEncoder.encode(userDetails.getPassword()));
+                existingUser.setPassword(passwordHasher.encode(userDetails.getPassword()));
             }
             
             // Update role if provided and user is admin
@@ -112,53 +147,4 @@ public class UserService {
     public List<User> getUsersByRole(String role) {
         return userRepository.findByUserRole(role.toUpperCase());
     }
-
-    private void validateUser(User user) {
-        if (user.getFirstName() == null || !user.getFirstName().matches("^[a-zA-Z\\s]{2,50}$")) {
-            throw new IllegalArgumentException("Invalid first name - must be 2-50 characters and contain only letters");
-        }
-        if (user.getLastName() == null || !user.getLastName().matches("^[a-zA-Z\\s]{2,50}$")) {
-            throw new IllegalArgumentException("Invalid last name - must be 2-50 characters and contain only letters");
-        }
-        if (user.getEmail() == null || !user.getEmail().matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
-            throw new IllegalArgumentException("Invalid email format");
-        }
-        if (user.getPassword() == null || !user.getPassword().matches("^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\\S+$).{8,}$")) {
-            throw new IllegalArgumentException("Password must be at least 8 characters and contain at least one digit, one uppercase, one lowercase, and one special character");
-        }
-        if (user.getPhoneNumber() == null || !user.getPhoneNumber().matches("^\\+201[0-2,5]{1}\\d{8}$")) {
-            throw new IllegalArgumentException("Invalid Egyptian phone number format - must start with +201");
-        }
-        if (user.getAddress() == null || !user.getAddress().matches("^[\\w\\s,.-]{10,255}$")) {
-            throw new IllegalArgumentException("Address must be between 10 and 255 characters");
-        }
-        if (user.getUserRole() == null || !user.getUserRole().matches("^(ADMIN|USER|STAFF)$")) {
-            throw new IllegalArgumentException("User role must be either ADMIN, USER, or STAFF");
-        }
-    }
-
-    private void validateUserUpdate(User user) {
-        if (user.getFirstName() != null && !user.getFirstName().matches("^[a-zA-Z\\s]{2,50}$")) {
-            throw new IllegalArgumentException("Invalid first name - must be 2-50 characters and contain only letters");
-        }
-        if (user.getLastName() != null && !user.getLastName().matches("^[a-zA-Z\\s]{2,50}$")) {
-            throw new IllegalArgumentException("Invalid last name - must be 2-50 characters and contain only letters");
-        }
-        if (user.getEmail() != null && !user.getEmail().matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
-            throw new IllegalArgumentException("Invalid email format");
-        }
-        if (user.getPassword() != null && !user.getPassword().isEmpty() && 
-            !user.getPassword().matches("^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\\S+$).{8,}$")) {
-            throw new IllegalArgumentException("Password must be at least 8 characters and contain at least one digit, one uppercase, one lowercase, and one special character");
-        }
-        if (user.getPhoneNumber() != null && !user.getPhoneNumber().matches("^\\+201[0-2,5]{1}\\d{8}$")) {
-            throw new IllegalArgumentException("Invalid Egyptian phone number format - must start with +201");
-        }
-        if (user.getAddress() != null && !user.getAddress().matches("^[\\w\\s,.-]{10,255}$")) {
-            throw new IllegalArgumentException("Address must be between 10 and 255 characters");
-        }
-        if (user.getUserRole() != null && !user.getUserRole().matches("^(ADMIN|USER|STAFF)$")) {
-            throw new IllegalArgumentException("User role must be either ADMIN, USER, or STAFF");
-        }
-    }
 }
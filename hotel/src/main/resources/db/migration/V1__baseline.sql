@@ -0,0 +1,98 @@
+-- Baseline schema for the entity mappings. A database created earlier by ddl-auto=update is marked
+-- as version 1 with flyway:baseline instead of running this script.
+
+create table rooms (
+    id bigint not null auto_increment,
+    room_number varchar(255),
+    room_type varchar(255),
+    capacity integer,
+    price_per_night float(53),
+    room_status varchar(255),
+    description varchar(500),
+    smoking_allowed varchar(255),
+    floor_number integer,
+    version bigint not null,
+    last_modified datetime(6),
+    primary key (id),
+    constraint uk_rooms_room_number unique (room_number)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    first_name varchar(255),
+    last_name varchar(255),
+    email varchar(255),
+    password varchar(255),
+    phone_number varchar(255),
+    address varchar(255),
+    user_role varchar(255),
+    version bigint not null,
+    last_modified datetime(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table bookings (
+    id bigint not null,
+    booking_number varchar(255),
+    check_in_date date,
+    check_out_date date,
+    room_id bigint,
+    user_id bigint,
+    version bigint not null,
+    last_modified datetime(6),
+    primary key (id),
+    constraint fk_bookings_room foreign key (room_id) references rooms (id),
+    constraint fk_bookings_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table invoices (
+    id bigint not null,
+    booking_id bigint not null,
+    user_id bigint not null,
+    invoice_date datetime(6),
+    total_amount float(53),
+    payment_status varchar(255),
+    payment_method varchar(255),
+    notes varchar(500),
+    tax_amount float(53),
+    discount_amount float(53),
+    payment_date datetime(6),
+    version bigint not null,
+    last_modified datetime(6),
+    primary key (id),
+    constraint fk_invoices_booking foreign key (booking_id) references bookings (id),
+    constraint fk_invoices_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table room_nights (
+    id bigint not null,
+    room_id bigint not null,
+    night date not null,
+    booking_id bigint not null,
+    primary key (id),
+    constraint uk_room_nights_room_night unique (room_id, night)
+) engine=InnoDB;
+
+create index idx_room_nights_booking on room_nights (booking_id);
+
+create table revenue_rollups (
+    revenue_date date not null,
+    payment_method varchar(20) not null,
+    payment_status varchar(20) not null,
+    invoice_count bigint not null,
+    total_amount float(53) not null,
+    tax_amount float(53) not null,
+    discount_amount float(53) not null,
+    primary key (revenue_date, payment_method, payment_status)
+) engine=InnoDB;
+
+-- MySQL has no sequences, so Hibernate keeps each @SequenceGenerator in a one-row table
+create table bookings_seq (next_val bigint) engine=InnoDB;
+insert into bookings_seq values (1);
+
+create table invoices_seq (next_val bigint) engine=InnoDB;
+insert into invoices_seq values (1);
+
+create table room_nights_seq (next_val bigint) engine=InnoDB;
+insert into room_nights_seq values (1);
@@ -0,0 +1,22 @@
+-- One index per repository finder. idx_bookings_room_stay also serves the availability overlap
+-- anti-join, and the (date, id) indexes serve the keyset pages and exports sorted that way.
+
+create index idx_bookings_room_stay on bookings (room_id, check_in_date, check_out_date);
+create index idx_bookings_user on bookings (user_id);
+create index idx_bookings_check_in on bookings (check_in_date, id);
+create index idx_bookings_check_out on bookings (check_out_date);
+create index idx_bookings_number on bookings (booking_number);
+
+create index idx_invoices_user on invoices (user_id);
+create index idx_invoices_booking on invoices (booking_id);
+create index idx_invoices_status on invoices (payment_status);
+create index idx_invoices_method on invoices (payment_method);
+create index idx_invoices_date on invoices (invoice_date, id);
+create index idx_invoices_total on invoices (total_amount);
+
+create index idx_rooms_type on rooms (room_type);
+create index idx_rooms_status on rooms (room_status);
+create index idx_rooms_price on rooms (price_per_night);
+create index idx_rooms_floor on rooms (floor_number);
+
+create index idx_users_role on users (user_role);
@@ -0,0 +1,12 @@
+-- Amounts are held as whole cents in the application and stored as exact decimals. Existing
+-- float values are rounded to the cent, which also drops any drift the rollup sums picked up.
+
+alter table rooms modify column price_per_night decimal(12,2);
+
+alter table invoices modify column total_amount decimal(12,2);
+alter table invoices modify column tax_amount decimal(12,2);
+alter table invoices modify column discount_amount decimal(12,2);
+
+alter table revenue_rollups modify column total_amount decimal(14,2) not null;
+alter table revenue_rollups modify column tax_amount decimal(14,2) not null;
+alter table revenue_rollups modify column discount_amount decimal(14,2) not null;
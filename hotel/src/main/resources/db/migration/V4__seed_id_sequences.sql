@@ -0,0 +1,20 @@
+-- Bookings, invoices and room nights take their ids from pooled sequence tables that V1, or
+-- ddl-auto=update, started at 1, while a database that used IDENTITY ids already holds 1..N.
+-- Hibernate's pooled optimizer hands out next_val - 49 .. next_val (allocationSize 50), so each
+-- table is moved to max(id) + 50 and the first new id is max(id) + 1. A table already past that
+-- is left alone. A database baselined before the sequence tables existed gets them here.
+
+create table if not exists bookings_seq (next_val bigint) engine=InnoDB;
+insert into bookings_seq select 1 from dual where not exists (select * from bookings_seq);
+update bookings_seq set next_val = (select coalesce(max(id), 0) + 50 from bookings)
+where next_val < (select coalesce(max(id), 0) + 50 from bookings);
+
+create table if not exists invoices_seq (next_val bigint) engine=InnoDB;
+insert into invoices_seq select 1 from dual where not exists (select * from invoices_seq);
+update invoices_seq set next_val = (select coalesce(max(id), 0) + 50 from invoices)
+where next_val < (select coalesce(max(id), 0) + 50 from invoices);
+
+create table if not exists room_nights_seq (next_val bigint) engine=InnoDB;
+insert into room_nights_seq select 1 from dual where not exists (select * from room_nights_seq);
+update room_nights_seq set next_val = (select coalesce(max(id), 0) + 50 from room_nights)
+where next_val < (select coalesce(max(id), 0) + 50 from room_nights);
@@ -0,0 +1,52 @@
+package com.hotel.hotel.Config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcBulkheadFilterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JdbcBulkheadFilter filter = new JdbcBulkheadFilter(registry, true, 1, Duration.ofMillis(50));
+
+    @Test
+    void asyncRequestsHoldTheirPermitUntilTheyComplete() throws Exception {
+        MockHttpServletRequest export = new MockHttpServletRequest("GET", "/bookings/export");
+        export.setAsyncSupported(true);
+        filter.doFilter(export, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+        assertEquals(1.0, inUse());
+
+        MockHttpServletResponse busy = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/rooms/"), busy, (request, response) -> fail("admitted"));
+        assertEquals(503, busy.getStatus());
+
+        AsyncContext stream = export.getAsyncContext();
+        stream.complete();
+        assertEquals(0.0, inUse());
+
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/rooms/"), admitted, (request, response) -> { });
+        assertEquals(200, admitted.getStatus());
+        assertEquals(0.0, inUse());
+    }
+
+    @Test
+    void disabledBulkheadAdmitsEveryRequest() throws Exception {
+        JdbcBulkheadFilter disabled = new JdbcBulkheadFilter(new SimpleMeterRegistry(), false, 1, Duration.ofMillis(50));
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest export = new MockHttpServletRequest("GET", "/bookings/export");
+            export.setAsyncSupported(true);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            disabled.doFilter(export, response, (request, ignored) -> request.startAsync());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private double inUse() {
+        return registry.get("hotel.bulkhead.in.use").gauge().value();
+    }
+}
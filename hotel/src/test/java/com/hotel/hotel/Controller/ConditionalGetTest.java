@@ -0,0 +1,125 @@
+package com.hotel.hotel.Controller;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.Service.RoomService;
+import com.hotel.hotel.support.TestData;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void unchangedRoomIsA304FromOneVersionQuery() throws Exception {
+        Room room = roomService.createRoom(TestData.room("C101"));
+        String uri = "/rooms/" + room.getId();
+
+        MvcResult first = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        assertEquals(1, statementsFor(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag), 304));
+        mockMvc.perform(get(uri).header(HttpHeaders.IF_MODIFIED_SINCE, first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        room.setRoomStatus("MAINTENANCE");
+        roomService.updateRoom(room.getId(), room);
+        mockMvc.perform(get(uri).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roomStatus").value("MAINTENANCE"))
+                .andExpect(jsonPath("$.version").value(1))
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void listEtagChangesOnInsertUpdateAndDelete() throws Exception {
+        Room room = roomService.createRoom(TestData.room("C201"));
+        String etag = etagOf("/rooms/?size=5");
+        assertEquals(1, statementsFor(get("/rooms/?size=5").header(HttpHeaders.IF_NONE_MATCH, etag), 304));
+        mockMvc.perform(get("/rooms/status/AVAILABLE").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        room.setPricePerNight(Money.of("300.00"));
+        roomService.updateRoom(room.getId(), room);
+        String updated = etagOf("/rooms/?size=5");
+        assertNotEquals(etag, updated);
+
+        Room other = roomService.createRoom(TestData.room("C202"));
+        String inserted = etagOf("/rooms/?size=5");
+        assertNotEquals(updated, inserted);
+
+        roomService.deleteRoom(other.getId());
+        String deleted = etagOf("/rooms/?size=5");
+        assertNotEquals(inserted, deleted);
+    }
+
+    @Test
+    void protectedReadsAreConditionalToo() throws Exception {
+        User user = userRepository.save(TestData.user("conditional@example.com"));
+        String bearer = "Bearer " + tokenService.issue(user);
+
+        for (String uri : new String[] {"/users/" + user.getId(), "/invoices/user/" + user.getId()}) {
+            String etag = mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer).header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+    }
+
+    private String etagOf(String uri) throws Exception {
+        return mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private long statementsFor(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is(expectedStatus)).andExpect(content().string(""));
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return statements;
+    }
+}
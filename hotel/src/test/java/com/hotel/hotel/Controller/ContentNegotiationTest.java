@@ -0,0 +1,147 @@
+package com.hotel.hotel.Controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.Service.BookingService;
+import com.hotel.hotel.Service.RoomService;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs on a real Tomcat, which does the compression, with a database of its own
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:negotiation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ContentNegotiationTest {
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final SmileMapper smileMapper = new SmileMapper();
+
+    @Test
+    void listsAreSmileOnRequestAndGzippedAboveTheThreshold() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            roomService.createRoom(TestData.room(String.format("N%03d", i)));
+        }
+
+        HttpResponse<byte[]> json = get("/rooms/?size=40", "*/*", null);
+        assertTrue(json.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow().startsWith("application/json"));
+        assertTrue(json.headers().allValues(HttpHeaders.VARY).stream().anyMatch(vary -> vary.toLowerCase().contains("accept")));
+        assertTrue(json.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        // Past the compression threshold the body is streamed rather than buffered to learn its length
+        assertTrue(json.body().length > 2048);
+        assertTrue(json.headers().firstValue(HttpHeaders.CONTENT_LENGTH).isEmpty());
+        JsonNode expected = objectMapper.readTree(json.body());
+
+        HttpResponse<byte[]> smile = get("/rooms/?size=40", SMILE, null);
+        assertEquals(SMILE, smile.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow());
+        assertEquals(expected, smileMapper.readTree(smile.body()));
+        assertTrue(smile.body().length < json.body().length);
+
+        HttpResponse<byte[]> gzipped = get("/rooms/?size=40", SMILE, "gzip");
+        assertEquals("gzip", gzipped.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElseThrow());
+        assertEquals(expected, smileMapper.readTree(gunzip(gzipped.body())));
+        assertTrue(gzipped.body().length < smile.body().length);
+        String etag = gzipped.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+        assertTrue(etag.startsWith("W/"));
+        assertEquals(json.headers().firstValue(HttpHeaders.ETAG).orElseThrow(), etag);
+
+        HttpResponse<byte[]> small = get("/rooms/?size=1", "*/*", "gzip");
+        assertTrue(small.body().length < 2048);
+        assertTrue(small.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertEquals(small.body().length, Long.parseLong(small.headers().firstValue(HttpHeaders.CONTENT_LENGTH).orElseThrow()));
+    }
+
+    @Test
+    void exportStreamsSmileRows() throws Exception {
+        Room room = roomService.createRoom(TestData.room("N101"));
+        User user = userRepository.save(TestData.user("negotiation@example.com"));
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+        bookingService.createBooking(TestData.booking(1, room, user, checkIn, 2));
+        bookingService.createBooking(TestData.booking(2, room, user, checkIn.plusDays(4), 2));
+
+        String export = "/bookings/export?startDate=" + checkIn + "&endDate=" + checkIn.plusDays(10) + "&format=";
+        String bearer = "Bearer " + tokenService.issue(user);
+
+        HttpResponse<byte[]> smile = export(export + "smile", bearer, null);
+        assertEquals(SMILE, smile.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow());
+        List<JsonNode> rows = smileMapper.readerFor(JsonNode.class).<JsonNode>readValues(smile.body()).readAll();
+        assertEquals(2, rows.size());
+        assertEquals("BKG-0001", rows.get(0).get("bookingNumber").asText());
+        assertEquals("N101", rows.get(1).get("roomNumber").asText());
+
+        // Streamed without a length, so compressed whatever its size
+        HttpResponse<byte[]> ndjson = export(export + "ndjson", bearer, "gzip");
+        assertEquals("gzip", ndjson.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElseThrow());
+        List<JsonNode> lines = objectMapper.readerFor(JsonNode.class).<JsonNode>readValues(gunzip(ndjson.body())).readAll();
+        assertEquals(rows, lines);
+    }
+
+    private HttpResponse<byte[]> export(String path, String bearer, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).header(HttpHeaders.AUTHORIZATION, bearer);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        HttpResponse<byte[]> response = http.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        return response;
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).header(HttpHeaders.ACCEPT, accept);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        HttpResponse<byte[]> response = http.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hotel.hotel.Controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import com.hotel.hotel.HotelApplication;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.support.LoadHarness;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the app with the {@code local} profile, so it is seeded by the synthetic data generator,
+ * and drives the main read endpoints at a fixed rate with {@link LoadHarness}. Fails when any
+ * endpoint misses a threshold in {@code load-thresholds.properties}. Run with
+ * {@code mvn test -Pbenchmark -Dtest=EndpointLoadTest}.
+ */
+@Tag("benchmark")
+class EndpointLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(EndpointLoadTest.class);
+
+    @Test
+    void readEndpointsMeetTheirThresholds() throws Exception {
+        Properties thresholds = thresholds();
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(HotelApplication.class)
+                .profiles("local")
+                .properties("server.port=0")
+                .run();
+             LoadHarness harness = new LoadHarness(
+                     "http://localhost:" + app.getEnvironment().getProperty("local.server.port"),
+                     Map.of("Authorization", "Bearer " + token(app)))) {
+            List<LoadHarness.Endpoint> endpoints = endpoints(app);
+            double rate = Double.parseDouble(thresholds.getProperty("rate"));
+            Map<String, LoadHarness.Report> reports = harness.run(endpoints, rate,
+                    Duration.ofSeconds(Long.parseLong(thresholds.getProperty("warmup-seconds"))),
+                    Duration.ofSeconds(Long.parseLong(thresholds.getProperty("duration-seconds"))));
+            reports.values().forEach(report -> log.info("{}", report));
+
+            double maxErrorRate = Double.parseDouble(thresholds.getProperty("max-error-rate"));
+            double minThroughput = rate / endpoints.size() * Double.parseDouble(thresholds.getProperty("min-throughput-ratio"));
+            List<String> regressions = new ArrayList<>();
+            for (LoadHarness.Report report : reports.values()) {
+                double p99Ceiling = Double.parseDouble(thresholds.getProperty("p99-ms." + report.endpoint(),
+                        thresholds.getProperty("p99-ms.default")));
+                if (report.p99Millis() > p99Ceiling) {
+                    regressions.add(String.format("%s p99 %.1f ms > %.0f ms", report.endpoint(), report.p99Millis(), p99Ceiling));
+                }
+                if (report.errorRate() > maxErrorRate) {
+                    regressions.add(String.format("%s error rate %.4f > %.4f", report.endpoint(), report.errorRate(), maxErrorRate));
+                }
+                if (report.throughput() < minThroughput) {
+                    regressions.add(String.format("%s %.1f requests/s < %.1f", report.endpoint(), report.throughput(), minThroughput));
+                }
+            }
+            assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+        }
+    }
+
+    private List<LoadHarness.Endpoint> endpoints(ConfigurableApplicationContext app) {
+        Room room = app.getBean(RoomRepository.class).findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 1)).get(0);
+        Booking booking = app.getBean(BookingRepository.class).findAll(PageRequest.of(0, 1)).getContent().get(0);
+        Long userId = firstUser(app).getId();
+        LocalDate today = LocalDate.now();
+        LocalDate checkIn = today.plusDays(7);
+        LocalDate checkOut = checkIn.plusDays(3);
+        return List.of(
+                new LoadHarness.Endpoint("rooms-page", "/rooms/?size=50"),
+                new LoadHarness.Endpoint("room", "/rooms/" + room.getId()),
+                new LoadHarness.Endpoint("room-availability", "/rooms/availability?checkIn=" + checkIn + "&checkOut=" + checkOut),
+                new LoadHarness.Endpoint("room-quote", "/rooms/" + room.getId() + "/quote?checkIn=" + checkIn + "&checkOut=" + checkOut),
+                new LoadHarness.Endpoint("bookings-page", "/bookings/?size=50"),
+                new LoadHarness.Endpoint("booking", "/bookings/" + booking.getId()),
+                new LoadHarness.Endpoint("invoices-page", "/invoices/?size=50"),
+                new LoadHarness.Endpoint("user-invoices", "/invoices/user/" + userId),
+                new LoadHarness.Endpoint("revenue", "/invoices/revenue?startDate=" + today.minusDays(30) + "&endDate=" + today),
+                new LoadHarness.Endpoint("occupancy", "/analytics/occupancy?startDate=" + today + "&endDate=" + today.plusDays(90) + "&groupBy=floor"));
+    }
+
+    private String token(ConfigurableApplicationContext app) {
+        return app.getBean(TokenService.class).issue(firstUser(app));
+    }
+
+    private User firstUser(ConfigurableApplicationContext app) {
+        return app.getBean(UserRepository.class).findAll(PageRequest.of(0, 1)).getContent().get(0);
+    }
+
+    private static Properties thresholds() throws IOException {
+        Properties thresholds = new Properties();
+        try (InputStream in = EndpointLoadTest.class.getResourceAsStream("/load-thresholds.properties")) {
+            thresholds.load(in);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("hotel.load."))
+                .forEach(name -> thresholds.setProperty(name.substring("hotel.load.".length()), System.getProperty(name)));
+        return thresholds;
+    }
+}
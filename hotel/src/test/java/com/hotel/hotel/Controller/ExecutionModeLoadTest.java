@@ -0,0 +1,157 @@
+package com.hotel.hotel.Controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import com.hotel.hotel.HotelApplication;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.Service.BookingService;
+import com.hotel.hotel.Service.InvoiceService;
+import com.hotel.hotel.Service.RoomService;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives the same read mix against the app on Tomcat's platform thread pool and on virtual threads
+ * with the JDBC bulkhead, and compares throughput and p99 latency. Needs Java 21 for the virtual
+ * thread run. Run with {@code mvn test -Pbenchmark -Dtest=ExecutionModeLoadTest}.
+ */
+@Tag("benchmark")
+class ExecutionModeLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+    private static final int CLIENTS = 200;
+    private static final long WARMUP_MILLIS = 3_000;
+    private static final long RUN_MILLIS = 10_000;
+    private static final int ROOMS = 50;
+
+    @Test
+    void virtualThreadsMatchPlatformThroughputWithoutWorseTailLatency() throws Exception {
+        Result platform = run(false);
+        log.info("{}", platform);
+        assertEquals(0, platform.errors());
+
+        assumeTrue(Runtime.version().feature() >= 21, "Virtual threads need Java 21");
+        Result virtual = run(true);
+        log.info("{}", virtual);
+        assertEquals(0, virtual.errors());
+        assertTrue(virtual.throughput() >= platform.throughput() * 0.9, "virtual thread throughput regressed");
+        assertTrue(virtual.p99Millis() <= platform.p99Millis() * 1.1, "virtual thread p99 regressed");
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(HotelApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=50",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .run()) {
+            String bearer = "Bearer " + seed(app);
+            String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            LocalDate today = LocalDate.now();
+            List<String> paths = List.of("/bookings/?size=50", "/invoices/?size=50", "/users/?size=50",
+                    "/analytics/occupancy?startDate=" + today + "&endDate=" + today.plusDays(30) + "&groupBy=floor");
+
+            HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            drive(http, base, paths, bearer, WARMUP_MILLIS);
+            long started = System.nanoTime();
+            long[][] latencies = drive(http, base, paths, bearer, RUN_MILLIS);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            long errors = Arrays.stream(latencies).flatMapToLong(Arrays::stream).filter(latency -> latency < 0).count();
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).filter(latency -> latency >= 0).sorted().toArray();
+            return new Result(mode, all.length / seconds, percentile(all, 0.50), percentile(all, 0.99), errors);
+        }
+    }
+
+    private String seed(ConfigurableApplicationContext app) {
+        RoomService roomService = app.getBean(RoomService.class);
+        BookingService bookingService = app.getBean(BookingService.class);
+        InvoiceService invoiceService = app.getBean(InvoiceService.class);
+        User user = app.getBean(UserRepository.class).save(TestData.user("load@example.com"));
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = roomService.createRoom(TestData.room(String.format("L%03d", i)));
+            for (int stay = 0; stay < 4; stay++) {
+                Invoice invoice = new Invoice();
+                invoice.setBooking(bookingService.createBooking(TestData.booking(i * 4 + stay, room, user, checkIn.plusDays(3L * stay), 2)));
+                invoice.setUser(user);
+                invoice.setTotalAmount(Money.of("500.00"));
+                invoiceService.createInvoice(invoice);
+            }
+        }
+        return app.getBean(TokenService.class).issue(user);
+    }
+
+    // Each client sends back-to-back requests until the deadline; a failed request is recorded as -1
+    private long[][] drive(HttpClient http, String base, List<String> paths, String bearer, long millis) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long deadline = System.nanoTime() + millis * 1_000_000;
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                int offset = client;
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(base + paths.get((offset + count) % paths.size())))
+                                .header("Authorization", bearer).GET().build();
+                        long sent = System.nanoTime();
+                        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = status == 200 ? System.nanoTime() - sent : -1;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            long[][] results = new long[CLIENTS][];
+            for (int client = 0; client < CLIENTS; client++) {
+                results[client] = futures.get(client).get();
+            }
+            return results;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+
+    private record Result(String mode, double throughput, double p50Millis, double p99Millis, long errors) {
+        @Override
+        public String toString() {
+            return String.format("%s threads: %.0f requests/s, p50 %.1f ms, p99 %.1f ms, %d errors",
+                    mode, throughput, p50Millis, p99Millis, errors);
+        }
+    }
+}
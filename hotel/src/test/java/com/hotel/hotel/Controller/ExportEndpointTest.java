@@ -0,0 +1,111 @@
+package com.hotel.hotel.Controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.Service.BookingService;
+import com.hotel.hotel.Service.InvoiceService;
+import com.hotel.hotel.Service.RoomService;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The body is written on an async dispatch, which only a real servlet container runs through the filter chain
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ExportEndpointTest {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void authenticatedClientsReceiveEveryExportedRow() throws Exception {
+        Room room = roomService.createRoom(TestData.room("E101"));
+        User user = userRepository.save(TestData.user("export@example.com"));
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+        for (int i = 0; i < 3; i++) {
+            Booking booking = bookingService.createBooking(TestData.booking(100 + i, room, user, checkIn.plusDays(3 * i), 2));
+            Invoice invoice = new Invoice();
+            invoice.setBooking(booking);
+            invoice.setUser(booking.getUser());
+            invoice.setTotalAmount(Money.of("500.00"));
+            invoiceService.createInvoice(invoice);
+        }
+        String bearer = "Bearer " + tokenService.issue(user);
+        String bookings = "/bookings/export?startDate=" + checkIn + "&endDate=" + checkIn.plusDays(10) + "&format=";
+        String invoices = "/invoices/export?startDate=" + LocalDateTime.now().minusHours(1)
+                + "&endDate=" + LocalDateTime.now().plusHours(1) + "&format=";
+
+        List<JsonNode> bookingRows = ndjson(send(bookings + "ndjson", bearer, 200));
+        assertEquals(List.of("BKG-0100", "BKG-0101", "BKG-0102"),
+                bookingRows.stream().map(row -> row.get("bookingNumber").asText()).toList());
+        assertEquals("E101", bookingRows.get(0).get("roomNumber").asText());
+
+        List<JsonNode> invoiceRows = ndjson(send(invoices + "ndjson", bearer, 200));
+        assertEquals(3, invoiceRows.size());
+        assertEquals(500.0, invoiceRows.get(0).get("totalAmount").asDouble());
+
+        String[] csv = new String(send(invoices + "csv", bearer, 200).body()).split("\r\n");
+        assertEquals(4, csv.length);
+        assertTrue(csv[0].startsWith("id,bookingNumber,userId,invoiceDate,totalAmount"));
+        assertTrue(csv[1].contains(",500.00,"), csv[1]);
+
+        send(bookings + "ndjson", null, 401);
+        send(invoices + "ndjson", null, 401);
+        send(bookings + "xml", bearer, 400);
+    }
+
+    private List<JsonNode> ndjson(HttpResponse<byte[]> response) throws Exception {
+        assertEquals("application/x-ndjson", response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElseThrow());
+        return objectMapper.readerFor(JsonNode.class).<JsonNode>readValues(response.body()).readAll();
+    }
+
+    private HttpResponse<byte[]> send(String path, String bearer, int status) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (bearer != null) {
+            request.header(HttpHeaders.AUTHORIZATION, bearer);
+        }
+        HttpResponse<byte[]> response = http.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(status, response.statusCode());
+        return response;
+    }
+}
@@ -0,0 +1,165 @@
+package com.hotel.hotel.Controller;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.Service.BookingService;
+import com.hotel.hotel.Service.InvoiceService;
+import com.hotel.hotel.Service.RoomService;
+import com.hotel.hotel.support.TestData;
+
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FetchPlanTest {
+    private static final int ROWS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private String bearer;
+    private Long invoiceId;
+
+    @BeforeAll
+    void createRowsWithDistinctRoomsAndUsers() {
+        LocalDate checkIn = LocalDate.now().plusDays(400);
+        for (int i = 0; i < ROWS; i++) {
+            Room room = roomService.createRoom(TestData.room(String.format("N%03d", i)));
+            User user = userRepository.save(TestData.user("fetch" + i + "@example.com"));
+            Booking booking = bookingService.createBooking(TestData.booking(7000 + i, room, user, checkIn, 2));
+            Invoice invoice = new Invoice();
+            invoice.setBooking(booking);
+            invoice.setUser(booking.getUser());
+            invoice.setTotalAmount(Money.of("500.00"));
+            invoiceId = invoiceService.createInvoice(invoice).getId();
+            bearer = "Bearer " + tokenService.issue(user);
+        }
+    }
+
+    // With lazy associations and no fetch plan each row would add selects for its room, user and booking
+    @Test
+    void listEndpointsRunTheSameNumberOfStatementsForAnyPageSize() throws Exception {
+        assertEquals(statementsFor("/bookings/?size=2"), statementsFor("/bookings/?size=" + ROWS));
+        assertEquals(statementsFor("/bookings/?sort=checkInDate&size=2"), statementsFor("/bookings/?sort=checkInDate&size=" + ROWS));
+        assertEquals(statementsFor("/invoices/?size=2"), statementsFor("/invoices/?size=" + ROWS));
+        assertEquals(statementsFor("/invoices/?sort=invoiceDate&size=2"), statementsFor("/invoices/?sort=invoiceDate&size=" + ROWS));
+        assertEquals(1, statementsFor("/invoices/status/PENDING"));
+    }
+
+    @Test
+    void singleReadsLoadTheirGraphInOneSelectAndNeverExposePasswords() throws Exception {
+        // The version stamp for the ETag, then the invoice graph
+        assertEquals(2, statementsFor("/invoices/" + invoiceId));
+
+        mockMvc.perform(get("/invoices/" + invoiceId).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.booking.room.roomNumber").exists())
+                .andExpect(jsonPath("$.user.email").exists())
+                .andExpect(content().string(not(containsString("password"))))
+                .andExpect(content().string(not(containsString("hibernateLazyInitializer"))));
+    }
+
+    @Test
+    void updatesReturnTheUpdatedBookingWithItsGraph() throws Exception {
+        Room room = roomService.createRoom(TestData.room("U001"));
+        User user = userRepository.save(TestData.user("fetch-update@example.com"));
+        LocalDate checkIn = LocalDate.now().plusDays(500);
+        Booking booking = bookingService.createBooking(TestData.booking(7900, room, user, checkIn, 2));
+
+        mockMvc.perform(put("/bookings/" + booking.getId()).header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingNumber\":\"BKG-7901\",\"checkInDate\":\"" + checkIn.plusDays(1)
+                                + "\",\"checkOutDate\":\"" + checkIn.plusDays(4) + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookingNumber").value("BKG-7901"))
+                .andExpect(jsonPath("$.checkInDate").value(checkIn.plusDays(1).toString()))
+                .andExpect(jsonPath("$.checkOutDate").value(checkIn.plusDays(4).toString()))
+                .andExpect(jsonPath("$.room.roomNumber").value("U001"))
+                .andExpect(jsonPath("$.user.email").value("fetch-update@example.com"))
+                .andExpect(content().string(not(containsString("hibernateLazyInitializer"))));
+
+        mockMvc.perform(put("/bookings/0").header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bookingNumber\":\"BKG-7902\",\"checkInDate\":\"" + checkIn
+                                + "\",\"checkOutDate\":\"" + checkIn.plusDays(1) + "\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listRowsAreFlatSummariesThatFieldsCanNarrow() throws Exception {
+        mockMvc.perform(get("/bookings/?size=1").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].roomNumber").exists())
+                .andExpect(jsonPath("$.items[0].room").doesNotExist());
+
+        mockMvc.perform(get("/bookings/?size=1&fields=bookingNumber, checkInDate").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").exists())
+                .andExpect(jsonPath("$.items[0].bookingNumber").exists())
+                .andExpect(jsonPath("$.items[0].checkInDate").exists())
+                .andExpect(jsonPath("$.items[0].roomNumber").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").exists());
+
+        mockMvc.perform(get("/invoices/?fields=totalAmount,paymentStatus").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].totalAmount").exists())
+                .andExpect(jsonPath("$.items[0].bookingNumber").doesNotExist());
+
+        mockMvc.perform(get("/users/?fields=email,password").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Error: Unknown field: password"));
+    }
+
+    private long statementsFor(String uri) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+        long statements = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return statements;
+    }
+}
@@ -0,0 +1,63 @@
+package com.hotel.hotel.Metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.hotel.hotel.Service.RoomService;
+import com.hotel.hotel.support.TestData;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class LayerMetricsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Test
+    void everyLayerOfARequestIsMeasured() throws Exception {
+        roomService.createRoom(TestData.room("M101"));
+        roomService.createRoom(TestData.room("M102"));
+
+        mockMvc.perform(get("/rooms/").param("size", "10")).andExpect(status().isOk());
+
+        assertTrue(registry.get(LayerMetricsAspect.CONTROLLER_TIMER)
+                .tags("class", "RoomController", "method", "getAllRooms", "exception", "none").timer().count() >= 1);
+        assertTrue(registry.get(LayerMetricsAspect.SERVICE_TIMER)
+                .tags("class", "RoomService", "method", "createRoom").timer().count() >= 2);
+        assertTrue(registry.get(LayerMetricsAspect.REPOSITORY_RESULTS)
+                .tags("repository", "RoomRepository", "method", "findByIdGreaterThanOrderByIdAsc").summary().max() >= 2);
+        assertNotNull(registry.get("spring.data.repository.invocations").tag("repository", "RoomRepository").timer());
+    }
+
+    @Test
+    void prometheusEndpointServesHistogramsToLocalScrapers() throws Exception {
+        mockMvc.perform(get("/rooms/")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hotel_controller_seconds_bucket")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")));
+        mockMvc.perform(get("/actuator/prometheus").with(request -> {
+                    request.setRemoteAddr("203.0.113.7");
+                    return request;
+                }))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,61 @@
+package com.hotel.hotel.Model;
+
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SmileMapper smileMapper = SmileMapper.builder().findAndAddModules().build();
+
+    @Test
+    void arithmeticStaysExactInCents() {
+        assertEquals(12550, Money.of("125.5"));
+        assertEquals(13, Money.of("0.125"));
+        assertEquals(new BigDecimal("125.50"), Money.toDecimal(12550));
+        assertEquals(Money.of("1126.00"), Money.total(Money.of("1000.00"), Money.of("140.00"), Money.of("14.00")));
+        assertEquals(Money.of("19.60"), Money.times(Money.of("140.00"), 0.14));
+        // 50 * 1.15 is 57.49999999999999 as a double
+        assertEquals(Money.of("0.58"), Money.times(Money.of("0.50"), 1.15));
+        assertEquals(Money.of("0.34"), Money.divide(Money.of("1.01"), 3));
+        assertEquals(Money.of("0.02"), Money.divide(Money.of("0.03"), 2));
+        assertEquals(9_007_199_254_740_993L, Money.divide(9_007_199_254_740_993L, 1));
+
+        // A thousand ten-cent amounts: the double sum drifts, the cents sum does not
+        long[] dimes = new long[1000];
+        double drifting = 0.0;
+        for (int i = 0; i < dimes.length; i++) {
+            dimes[i] = Money.of("0.10");
+            drifting += 0.10;
+        }
+        assertNotEquals(100.0, drifting);
+        assertEquals(Money.of("100.00"), Money.sum(dimes, 0, dimes.length));
+
+        assertThrows(IllegalArgumentException.class, () -> Money.of("ten"));
+        assertThrows(IllegalArgumentException.class, () -> Money.of("1e30"));
+    }
+
+    @Test
+    void jsonShowsDecimalsAndReadsThemBackAsCents() throws Exception {
+        Room room = new Room();
+        room.setPricePerNight(Money.of("250.50"));
+        assertTrue(objectMapper.writeValueAsString(room).contains("\"pricePerNight\":250.50"));
+        assertEquals(Money.of("250.50"), objectMapper.readValue("{\"pricePerNight\":250.5}", Room.class).getPricePerNight());
+        assertEquals(Money.of("99.99"), objectMapper.readValue("{\"pricePerNight\":\"99.99\"}", Room.class).getPricePerNight());
+
+        // Smile clients read the same number JSON clients do
+        byte[] smile = smileMapper.writeValueAsBytes(room);
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(room)), smileMapper.readTree(smile));
+        assertEquals(Money.of("250.50"), smileMapper.readValue(smile, Room.class).getPricePerNight());
+
+        PriceQuote quote = new PriceQuote(1L, LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 3), 2,
+                new long[]{Money.of("100.00"), Money.of("115.00")}, Money.of("215.00"));
+        String json = objectMapper.writeValueAsString(quote);
+        assertTrue(json.contains("\"nightlyRates\":[100.00,115.00]"), json);
+        assertTrue(json.contains("\"total\":215.00"), json);
+    }
+}
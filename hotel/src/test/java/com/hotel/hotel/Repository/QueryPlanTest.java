@@ -0,0 +1,118 @@
+package com.hotel.hotel.Repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Service.SyntheticDataGenerator;
+import com.hotel.hotel.support.CapturedSql;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs each repository finder against a database seeded like the local profile, takes the SQL
+ * Hibernate generated for it and fails if H2's EXPLAIN shows a full scan of the table the finder
+ * filters. Other tables in the plan may be scanned, e.g. the rooms an availability search visits.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.hotel.hotel.support.CapturedSql"})
+@ActiveProfiles("test")
+class QueryPlanTest {
+    private static final int PAGE = 50;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findersUseAnIndexOnTheTableTheyFilter() {
+        SyntheticDataGenerator.Generated data = generator.generate(new SyntheticDataGenerator.Plan(200, 300, 2000, 0.9, 365, 42));
+        Room room = roomRepository.findById(data.roomIds().get(0)).orElseThrow();
+        User user = userRepository.findById(data.userIds().get(0)).orElseThrow();
+        Booking booking = bookingRepository.findById(data.bookingIds().get(0)).orElseThrow();
+        Long bookingId = booking.getId();
+        LocalDate from = LocalDate.now().plusDays(30);
+        LocalDate to = from.plusDays(7);
+        LocalDateTime now = LocalDateTime.now();
+        List<String> failures = new ArrayList<>();
+
+        check(failures, "bookings", "findByCheckInDateBetween",
+                () -> bookingRepository.findByCheckInDateBetween(from, to), from, to);
+        check(failures, "bookings", "findByCheckOutDateBetween",
+                () -> bookingRepository.findByCheckOutDateBetween(from, to), from, to);
+        check(failures, "bookings", "findByRoom", () -> bookingRepository.findByRoom(room), room.getId());
+        check(failures, "bookings", "findByUser", () -> bookingRepository.findByUser(user), user.getId());
+        check(failures, "bookings", "findByBookingNumber",
+                () -> bookingRepository.findByBookingNumber(booking.getBookingNumber()), booking.getBookingNumber());
+        check(failures, "bookings", "findSummariesAfterCheckInDate",
+                () -> bookingRepository.findSummariesAfterCheckInDate(from, bookingId, PageRequest.of(0, PAGE)), from, from, bookingId);
+        check(failures, "bookings", "freeBetween",
+                () -> roomRepository.findAll(RoomSpecifications.freeBetween(from, to)), to, from);
+
+        check(failures, "invoices", "findByUserId", () -> invoiceRepository.findByUserId(user.getId()), user.getId());
+        check(failures, "invoices", "findByBookingId", () -> invoiceRepository.findByBookingId(bookingId), bookingId);
+        check(failures, "invoices", "findByPaymentStatus", () -> invoiceRepository.findByPaymentStatus("REFUNDED"), "REFUNDED");
+        check(failures, "invoices", "findByPaymentMethod",
+                () -> invoiceRepository.findByPaymentMethod("BANK_TRANSFER"), "BANK_TRANSFER");
+        check(failures, "invoices", "findByInvoiceDateBetween",
+                () -> invoiceRepository.findByInvoiceDateBetween(now.minusHours(1), now), now.minusHours(1), now);
+        check(failures, "invoices", "findByTotalAmountBetween",
+                () -> invoiceRepository.findByTotalAmountBetween(Money.of("1000.00"), Money.of("1100.00")),
+                new BigDecimal("1000.00"), new BigDecimal("1100.00"));
+        check(failures, "invoices", "findSummariesAfterInvoiceDate",
+                () -> invoiceRepository.findSummariesAfterInvoiceDate(now.minusHours(1), 0L, PageRequest.of(0, PAGE)),
+                now.minusHours(1), now.minusHours(1), 0L);
+
+        check(failures, "rooms", "findByRoomType", () -> roomRepository.findByRoomType("DELUXE"), "DELUXE");
+        check(failures, "rooms", "findByRoomStatus", () -> roomRepository.findByRoomStatus("MAINTENANCE"), "MAINTENANCE");
+        check(failures, "rooms", "findByPricePerNightBetween",
+                () -> roomRepository.findByPricePerNightBetween(Money.of("2000.00"), Money.of("2500.00")),
+                new BigDecimal("2000.00"), new BigDecimal("2500.00"));
+        check(failures, "rooms", "findByFloorNumber", () -> roomRepository.findByFloorNumber(7), 7);
+        check(failures, "users", "findByUserRole", () -> userRepository.findByUserRole("STAFF"), "STAFF");
+
+        assertTrue(failures.isEmpty(), String.join("\n\n", failures));
+    }
+
+    // Parameters are bound in the order they appear in the SQL; any left over are the page limit
+    private void check(List<String> failures, String table, String finder, Runnable call, Object... parameters) {
+        call.run();
+        String sql = CapturedSql.last();
+        List<Object> bound = new ArrayList<>(Arrays.asList(parameters));
+        while (bound.size() < sql.chars().filter(c -> c == '?').count()) {
+            bound.add(PAGE + 1);
+        }
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, bound.toArray()));
+        if (Pattern.compile("(?i)\\b" + table + "\"?\\.tableScan").matcher(plan).find()) {
+            failures.add(finder + " scans " + table + ":\n" + plan);
+        }
+    }
+}
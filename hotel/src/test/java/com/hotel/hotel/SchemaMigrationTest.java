@@ -0,0 +1,96 @@
+package com.hotel.hotel;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The prod profile no longer lets Hibernate touch the schema, so the migrations have to produce
+ * every table, column and named index the entities map. Hibernate's own DDL for the test profile
+ * is the reference; the migrations run on a second H2 database in MySQL mode.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+    private static final String COLUMNS =
+            "select table_name, column_name from information_schema.columns where table_schema = 'public'";
+    // Only the named indexes; H2 generates its own for keys and foreign keys
+    private static final String INDEXES = "select index_name, column_name from information_schema.index_columns "
+            + "where table_schema = 'public' and index_name like 'idx\\_%' order by index_name, ordinal_position";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migrationsCreateEveryMappedTableColumnAndIndex() {
+        DriverManagerDataSource migrated = new DriverManagerDataSource(
+                "jdbc:h2:mem:migrated;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(migrated).locations("classpath:db/migration").load().migrate();
+        JdbcTemplate migratedJdbc = new JdbcTemplate(migrated);
+
+        assertEquals(columns(jdbcTemplate), columns(migratedJdbc));
+        assertEquals(indexes(jdbcTemplate), indexes(migratedJdbc));
+
+        // H2 has real sequences; on MySQL Hibernate keeps each one in a table of the same name
+        Set<String> tables = tables(migratedJdbc);
+        for (String sequence : jdbcTemplate.queryForList(
+                "select sequence_name from information_schema.sequences where sequence_schema = 'public'", String.class)) {
+            assertTrue(tables.contains(sequence), "no table for sequence " + sequence);
+        }
+    }
+
+    // A database filled while ids were IDENTITY columns must not hand out those ids again
+    @Test
+    void sequenceTablesStartAboveExistingIds() {
+        DriverManagerDataSource existing = new DriverManagerDataSource(
+                "jdbc:h2:mem:existing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(existing).locations("classpath:db/migration").target("3").load().migrate();
+        JdbcTemplate existingJdbc = new JdbcTemplate(existing);
+        for (long id = 1; id <= 120; id++) {
+            existingJdbc.update("insert into bookings (id, booking_number, version) values (?, ?, 0)", id, "BKG-" + id);
+        }
+        existingJdbc.update("update invoices_seq set next_val = 500");
+
+        Flyway.configure().dataSource(existing).locations("classpath:db/migration").load().migrate();
+
+        assertEquals(170L, existingJdbc.queryForObject("select next_val from bookings_seq", Long.class));
+        assertEquals(500L, existingJdbc.queryForObject("select next_val from invoices_seq", Long.class));
+        assertEquals(50L, existingJdbc.queryForObject("select next_val from room_nights_seq", Long.class));
+    }
+
+    private static Map<String, Set<String>> columns(JdbcTemplate jdbc) {
+        Map<String, Set<String>> columns = new TreeMap<>();
+        jdbc.query(COLUMNS, row -> {
+            String table = row.getString("table_name");
+            if (!table.equals("flyway_schema_history") && !table.endsWith("_seq")) {
+                columns.computeIfAbsent(table, name -> new TreeSet<>()).add(row.getString("column_name"));
+            }
+        });
+        return columns;
+    }
+
+    private static Map<String, List<String>> indexes(JdbcTemplate jdbc) {
+        Map<String, List<String>> indexes = new TreeMap<>();
+        jdbc.query(INDEXES, row -> {
+            indexes.computeIfAbsent(row.getString("index_name"), name -> new ArrayList<>()).add(row.getString("column_name"));
+        });
+        return indexes;
+    }
+
+    private static Set<String> tables(JdbcTemplate jdbc) {
+        return new TreeSet<>(jdbc.queryForList(
+                "select table_name from information_schema.tables where table_schema = 'public'", String.class));
+    }
+}
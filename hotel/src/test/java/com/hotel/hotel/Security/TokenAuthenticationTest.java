@@ -0,0 +1,119 @@
+package com.hotel.hotel.Security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Service.UserService;
+import com.hotel.hotel.support.TestData;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenAuthenticationTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void loginIssuesATokenThatAuthenticatesUntilRevoked() throws Exception {
+        userService.createUser(TestData.user("token@example.com"));
+
+        mockMvc.perform(get("/bookings/")).andExpect(status().isUnauthorized());
+
+        MvcResult login = mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"token@example.com\",\"password\":\"Pass123@\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult loggedIn = mockMvc.perform(asyncDispatch(login)).andExpect(status().isOk()).andReturn();
+        JsonNode body = objectMapper.readTree(loggedIn.getResponse().getContentAsString());
+        String bearer = "Bearer " + body.get("token").asText();
+
+        mockMvc.perform(get("/bookings/").header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+        mockMvc.perform(get("/bookings/").header(HttpHeaders.AUTHORIZATION, bearer + "x")).andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/users/logout").header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/bookings/").header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        userService.createUser(TestData.user("wrong@example.com"));
+
+        MvcResult login = mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"wrong@example.com\",\"password\":\"Wrong123@\"}"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(login)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void onlyAdminsGrantRolesOrAdministerUsers() throws Exception {
+        User admin = TestData.user("admin@example.com");
+        admin.setUserRole("ADMIN");
+        String adminBearer = "Bearer " + tokenService.issue(userRepository.save(admin));
+        User guest = userRepository.save(TestData.user("guest@example.com"));
+        String guestBearer = "Bearer " + tokenService.issue(guest);
+        String staffBody = "{\"firstName\":\"Jane\",\"lastName\":\"Doe\",\"email\":\"staff@example.com\","
+                + "\"password\":\"Pass123@\",\"phoneNumber\":\"+201012345678\",\"address\":\"123 Main St, Cairo\","
+                + "\"userRole\":\"STAFF\"}";
+
+        mockMvc.perform(post("/users/register").contentType(MediaType.APPLICATION_JSON).content(staffBody))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/users/register").header(HttpHeaders.AUTHORIZATION, guestBearer)
+                        .contentType(MediaType.APPLICATION_JSON).content(staffBody))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/users/register").header(HttpHeaders.AUTHORIZATION, adminBearer)
+                        .contentType(MediaType.APPLICATION_JSON).content(staffBody))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(put("/users/" + guest.getId()).header(HttpHeaders.AUTHORIZATION, guestBearer)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"userRole\":\"ADMIN\"}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/users/" + admin.getId()).header(HttpHeaders.AUTHORIZATION, guestBearer)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"password\":\"Taken123@\"}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/users/" + guest.getId()).header(HttpHeaders.AUTHORIZATION, guestBearer)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"password\":\"Changed123@\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/users/register").contentType(MediaType.APPLICATION_JSON)
+                        .content(staffBody.replace(",\"userRole\":\"STAFF\"", "")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/users/role/STAFF").header(HttpHeaders.AUTHORIZATION, guestBearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/users/role/STAFF").header(HttpHeaders.AUTHORIZATION, adminBearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/users/" + guest.getId()).header(HttpHeaders.AUTHORIZATION, guestBearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/invoices/revenue/rebuild").header(HttpHeaders.AUTHORIZATION, guestBearer))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/invoices/revenue/rebuild").header(HttpHeaders.AUTHORIZATION, adminBearer))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/users/" + guest.getId()).header(HttpHeaders.AUTHORIZATION, adminBearer))
+                .andExpect(status().isOk());
+    }
+}
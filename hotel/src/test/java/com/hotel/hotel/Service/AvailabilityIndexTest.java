@@ -0,0 +1,49 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 1);
+
+    @Test
+    void detectsOverlapsButAllowsBackToBackStays() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.add(1L, 10L, DAY, DAY.plusDays(3));
+
+        assertEquals(1L, index.findConflict(10L, DAY.plusDays(2), DAY.plusDays(5), null));
+        assertEquals(1L, index.findConflict(10L, DAY.minusDays(1), DAY.plusDays(1), null));
+        assertTrue(index.isAvailable(10L, DAY.plusDays(3), DAY.plusDays(4)));
+        assertTrue(index.isAvailable(10L, DAY.minusDays(2), DAY));
+        assertTrue(index.isAvailable(11L, DAY, DAY.plusDays(3)));
+    }
+
+    @Test
+    void findsLongStaysStartingWellBeforeTheRange() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.add(1L, 10L, DAY, DAY.plusDays(30));
+        index.add(2L, 10L, DAY.plusDays(40), DAY.plusDays(41));
+
+        assertEquals(1L, index.findConflict(10L, DAY.plusDays(20), DAY.plusDays(21), null));
+        assertTrue(index.isAvailable(10L, DAY.plusDays(30), DAY.plusDays(40)));
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        AvailabilityIndex index = new AvailabilityIndex();
+        index.add(1L, 10L, DAY, DAY.plusDays(3));
+
+        assertNull(index.findConflict(10L, DAY, DAY.plusDays(3), 1L));
+
+        index.add(1L, 10L, DAY.plusDays(5), DAY.plusDays(7));
+        assertTrue(index.isAvailable(10L, DAY, DAY.plusDays(3)));
+        assertFalse(index.isAvailable(10L, DAY.plusDays(6), DAY.plusDays(8)));
+
+        index.remove(1L);
+        assertTrue(index.isAvailable(10L, DAY.plusDays(5), DAY.plusDays(7)));
+        assertEquals(0, index.size());
+    }
+}
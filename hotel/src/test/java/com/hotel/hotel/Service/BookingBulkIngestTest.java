@@ -0,0 +1,57 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.List;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.BulkResult;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BookingBulkIngestTest {
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void acceptsValidItemsAndReportsEachRejectedOne() {
+        Room room = roomRepository.save(TestData.room("B101"));
+        User user = userRepository.save(TestData.user("bulk@example.com"));
+        LocalDate day = LocalDate.now().plusDays(10);
+
+        Booking missingRoom = TestData.booking(4, room, user, day.plusDays(20), 1);
+        missingRoom.getRoom().setId(-1L);
+        List<Booking> bookings = List.of(
+                TestData.booking(1, room, user, day, 2),
+                TestData.booking(2, room, user, day.plusDays(1), 2),
+                TestData.booking(3, room, user, day.plusDays(2), 2),
+                missingRoom);
+
+        BulkResult result = bookingService.createBookings(bookings);
+
+        assertEquals(2, result.getAccepted());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of(1, 3), result.getErrors().stream().map(BulkResult.ItemError::getIndex).toList());
+        assertTrue(bookingRepository.findAllById(result.getIds()).size() == 2);
+        assertFalse(bookingService.isRoomAvailable(room.getId(), day, day.plusDays(1)));
+    }
+}
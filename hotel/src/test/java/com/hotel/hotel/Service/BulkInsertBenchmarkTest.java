@@ -0,0 +1,73 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.BulkResult;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares booking insert throughput of POST /bookings/ (one save per booking) with the bulk path.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkInsertBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+    private static final int ROOMS = 200;
+    private static final int BOOKINGS_PER_PATH = 5000;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void bulkPathOutperformsSingleInserts() {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            rooms.add(roomRepository.save(TestData.room(String.format("R%03d", i))));
+        }
+        User user = userRepository.save(TestData.user("benchmark@example.com"));
+
+        LocalDate singleStart = LocalDate.now().plusDays(1);
+        long started = System.nanoTime();
+        for (int i = 0; i < BOOKINGS_PER_PATH; i++) {
+            bookingService.createBooking(TestData.booking(i, rooms.get(i % ROOMS), user, singleStart.plusDays(2L * (i / ROOMS)), 1));
+        }
+        double singleSeconds = (System.nanoTime() - started) / 1e9;
+
+        LocalDate bulkStart = singleStart.plusDays(2L * (BOOKINGS_PER_PATH / ROOMS) + 2);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS_PER_PATH; i++) {
+            bookings.add(TestData.booking(i, rooms.get(i % ROOMS), user, bulkStart.plusDays(2L * (i / ROOMS)), 1));
+        }
+        started = System.nanoTime();
+        BulkResult result = bookingService.createBookings(bookings);
+        double bulkSeconds = (System.nanoTime() - started) / 1e9;
+
+        assertEquals(BOOKINGS_PER_PATH, result.getAccepted());
+        log.info("single inserts: {} bookings/s, bulk: {} bookings/s ({}x)", Math.round(BOOKINGS_PER_PATH / singleSeconds),
+                Math.round(BOOKINGS_PER_PATH / bulkSeconds), String.format("%.1f", singleSeconds / bulkSeconds));
+    }
+}
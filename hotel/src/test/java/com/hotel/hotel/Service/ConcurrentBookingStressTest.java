@@ -0,0 +1,123 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomNightRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentBookingStressTest {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentBookingStressTest.class);
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 50;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomNightRepository roomNightRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentReservationsOnOneRoomNeverOverlap() throws Exception {
+        Room room = roomRepository.save(TestData.room("S101"));
+        User user = userRepository.save(TestData.user("stress@example.com"));
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                go.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    LocalDate checkIn = start.plusDays(random.nextInt(120));
+                    try {
+                        bookingService.createBooking(TestData.booking(i, room, user, checkIn, 1 + random.nextInt(4)));
+                        created.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        long started = System.nanoTime();
+        go.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        executor.shutdown();
+
+        List<Booking> bookings = new ArrayList<>(bookingRepository.findByRoom(room));
+        bookings.sort(Comparator.comparing(Booking::getCheckInDate));
+        for (int i = 1; i < bookings.size(); i++) {
+            assertFalse(bookings.get(i).getCheckInDate().isBefore(bookings.get(i - 1).getCheckOutDate()),
+                    "bookings " + bookings.get(i - 1).getId() + " and " + bookings.get(i).getId() + " overlap");
+        }
+        long bookedNights = bookings.stream()
+                .mapToLong(b -> b.getCheckOutDate().toEpochDay() - b.getCheckInDate().toEpochDay())
+                .sum();
+        assertEquals(created.get(), bookings.size());
+        assertEquals(bookedNights, roomNightRepository.countByRoomId(room.getId()));
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, created.get() + rejected.get());
+        log.info("{} reservation attempts in {} s ({}/s), {} created, {} rejected",
+                THREADS * ATTEMPTS_PER_THREAD, String.format("%.2f", seconds), Math.round(THREADS * ATTEMPTS_PER_THREAD / seconds),
+                created.get(), rejected.get());
+    }
+
+    @Test
+    void ledgerRejectsOverlapUnknownToTheIndex() {
+        Room room = roomRepository.save(TestData.room("S102"));
+        User user = userRepository.save(TestData.user("ledger@example.com"));
+        LocalDate checkIn = LocalDate.now().plusDays(5);
+
+        Booking first = bookingService.createBooking(TestData.booking(1, room, user, checkIn, 3));
+        // Simulates a booking written by another application instance
+        availabilityIndex.remove(first.getId());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> bookingService.createBooking(TestData.booking(2, room, user, checkIn.plusDays(1), 3)));
+        assertEquals(1, bookingRepository.findByRoom(room).size());
+    }
+}
@@ -0,0 +1,60 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityValidatorTest {
+
+    // Every input must be judged exactly as the regex on the entity annotation judges it
+    private static void assertSameAsRegex(String regex, Predicate<String> check, List<String> inputs) {
+        for (String input : inputs) {
+            assertEquals(input.matches(regex), check.test(input), () -> regex + " vs \"" + input + "\"");
+        }
+    }
+
+    @Test
+    void roomAndBookingNumbersMatchTheirPatterns() {
+        assertSameAsRegex("^[A-Z]\\d{3}$", EntityValidator::isRoomNumber,
+                List.of("A101", "Z999", "a101", "A10", "A1011", "AB01", "A10x", "", "A\u0661\u0660\u0661"));
+        assertSameAsRegex("^[A-Z]{3}-\\d{4}$", EntityValidator::isBookingNumber,
+                List.of("ABC-1234", "ABC1234", "AB-12345", "abc-1234", "ABC-123A", "ABCD-123", ""));
+    }
+
+    @Test
+    void userFieldsMatchTheirPatterns() {
+        assertSameAsRegex("^[a-zA-Z\\s]{2,50}$", EntityValidator::isName,
+                List.of("Jo", "J", "Mary Ann", "Ann\tMarie", "O'Neil", "José", "A".repeat(50), "A".repeat(51)));
+        assertSameAsRegex("^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=])(?=\\S+$).{8,}$",
+                EntityValidator::isStrongPassword,
+                List.of("Pass123@", "Pass123!", "pass123@", "PASS123@", "Password@", "Pa 123@xy", "Pa1@",
+                        "Pass123@\u2028", "Pass123@ ", "Pass123@\u0085"));
+        assertSameAsRegex("^\\+201[0-2,5]{1}\\d{8}$", EntityValidator::isEgyptianPhone,
+                List.of("+201012345678", "+201512345678", "+201312345678", "+201,12345678", "+20101234567",
+                        "201012345678", "+2010123456789", "+20101234567a"));
+        assertSameAsRegex("^[\\w\\s,.-]{10,255}$", EntityValidator::isAddress,
+                List.of("12 Nile St, Cairo", "short", "12 Nile St #4", "12_Nile-St.", "a".repeat(255), "a".repeat(256)));
+    }
+
+    @Test
+    void roomValidationReportsTheFirstBrokenRule() {
+        EntityValidator validator = new EntityValidator();
+        Room room = new Room();
+        room.setRoomNumber("A101");
+        room.setRoomType("SUITE");
+        room.setCapacity(2);
+        room.setPricePerNight(Money.of("500.00"));
+        room.setRoomStatus("AVAILABLE");
+        room.setFloorNumber(1);
+        assertDoesNotThrow(() -> validator.validateRoom(room));
+
+        room.setRoomType("suite");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> validator.validateRoom(room));
+        assertEquals("Room type must be either SINGLE, DOUBLE, SUITE, or DELUXE", e.getMessage());
+    }
+}
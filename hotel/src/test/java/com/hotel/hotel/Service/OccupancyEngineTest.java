@@ -0,0 +1,89 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.OccupancyReport;
+import com.hotel.hotel.Model.OccupancyRow;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OccupancyEngineTest {
+    @Autowired
+    private OccupancyEngine occupancyEngine;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void reportsOccupancyAdrAndRevParAndFollowsBookingChanges() {
+        Room cheap = roomRepository.save(floor20(TestData.room("O101"), "100.00"));
+        Room dear = roomRepository.save(floor20(TestData.room("O102"), "300.00"));
+        User user = userRepository.save(TestData.user("occupancy@example.com"));
+        LocalDate start = LocalDate.now().plusDays(400);
+        LocalDate end = start.plusDays(9);
+
+        bookingService.createBooking(TestData.booking(1, cheap, user, start, 3));
+        Booking second = bookingService.createBooking(TestData.booking(2, dear, user, start.plusDays(8), 4));
+
+        OccupancyRow floor = floor20(occupancyEngine.occupancy(start, end, "floor"));
+        assertEquals(20, floor.availableRoomNights());
+        assertEquals(5, floor.soldRoomNights());
+        assertEquals(Money.of("900.00"), floor.revenue());
+        assertEquals(0.25, floor.occupancyRate());
+        assertEquals(Money.of("180.00"), floor.adr());
+        assertEquals(Money.of("45.00"), floor.revPar());
+
+        OccupancyReport byDay = occupancyEngine.occupancy(start, end, "day");
+        assertEquals(10, byDay.rows().size());
+        assertEquals(end.toString(), byDay.rows().get(9).group());
+
+        // Enough churn to force the fact columns to compact
+        for (long id = 1; id <= 3000; id++) {
+            occupancyEngine.add(-id, dear.getId(), start.plusDays(id % 10), start.plusDays(id % 10 + 1));
+        }
+        for (long id = 1; id <= 3000; id++) {
+            occupancyEngine.remove(-id);
+        }
+        bookingService.deleteBooking(second.getId());
+
+        floor = floor20(occupancyEngine.occupancy(start, end, "floor"));
+        assertEquals(3, floor.soldRoomNights());
+        assertEquals(Money.of("300.00"), floor.revenue());
+    }
+
+    @Test
+    void rejectsUnknownGrouping() {
+        LocalDate today = LocalDate.now();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> occupancyEngine.occupancy(today, today, "building"));
+        assertEquals("Group by must be either day, floor, or roomType", e.getMessage());
+    }
+
+    private static Room floor20(Room room, String price) {
+        room.setFloorNumber(20);
+        room.setPricePerNight(Money.of(price));
+        return room;
+    }
+
+    private static OccupancyRow floor20(OccupancyReport report) {
+        return report.rows().stream().filter(row -> row.group().equals("20")).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,171 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.PriceQuote;
+import com.hotel.hotel.Model.QuoteRequest;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.StayQuote;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PricingEngineTest {
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void pricesFollowWeekendsAndForwardOccupancyOfTheRoomType() {
+        Room quoted = roomService.createRoom(deluxe("P101"));
+        Room booked = roomService.createRoom(deluxe("P102"));
+        Room retyped = roomService.createRoom(deluxe("P103"));
+        User user = userRepository.save(TestData.user("pricing@example.com"));
+        LocalDate monday = LocalDate.now().plusDays(30).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        PriceQuote week = pricingEngine.quote(quoted.getId(), monday, monday.plusDays(7));
+        assertEquals(7, week.nights());
+        assertArrayEquals(rates("1000.00", "1000.00", "1000.00", "1000.00", "1150.00", "1150.00", "1000.00"), week.nightlyRates());
+        assertEquals(Money.of("7300.00"), week.total());
+
+        // Two of the three deluxe rooms taken: occupancy 2/3 adds a third of the 30% demand uplift
+        Booking first = bookingService.createBooking(TestData.booking(1, booked, user, monday, 2));
+        bookingService.createBooking(TestData.booking(2, retyped, user, monday, 1));
+        assertArrayEquals(rates("1100.00", "1000.00", "1000.00"),
+                pricingEngine.quote(quoted.getId(), monday, monday.plusDays(3)).nightlyRates());
+
+        Room suite = deluxe("P103");
+        suite.setRoomType("SUITE");
+        roomService.updateRoom(retyped.getId(), suite);
+        assertArrayEquals(rates("1000.00", "1000.00"), pricingEngine.quote(quoted.getId(), monday, monday.plusDays(2)).nightlyRates());
+
+        Booking moved = TestData.booking(1, booked, user, monday, 2);
+        moved.setCheckInDate(monday.plusDays(1));
+        moved.setCheckOutDate(monday.plusDays(2));
+        bookingService.updateBooking(first.getId(), moved);
+        bookingService.createBooking(TestData.booking(3, quoted, user, monday.plusDays(1), 1));
+        assertArrayEquals(rates("1000.00", "1300.00"), pricingEngine.quote(quoted.getId(), monday, monday.plusDays(2)).nightlyRates());
+    }
+
+    @Test
+    void quotesEveryMatchingRoomWithTaxAndDiscountCheapestFirst() {
+        Room dearer = roomService.createRoom(single("Q101", "300.00"));
+        Room cheaper = roomService.createRoom(single("Q102", "200.00"));
+        User user = userRepository.save(TestData.user("quotes@example.com"));
+        LocalDate monday = LocalDate.now().plusDays(30).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        QuoteRequest request = new QuoteRequest();
+        request.setCheckIn(monday);
+        request.setCheckOut(monday.plusDays(2));
+        request.setRoomType("single");
+        request.setFloorNumber(19);
+        request.setDiscountAmount(Money.of("10.00"));
+        assertEquals(List.of(new StayQuote(cheaper.getId(), 2, Money.of("400.00"), Money.of("56.00"), Money.of("10.00"), Money.of("446.00")),
+                        new StayQuote(dearer.getId(), 2, Money.of("600.00"), Money.of("84.00"), Money.of("10.00"), Money.of("674.00"))),
+                roomService.quoteRooms(request));
+
+        bookingService.createBooking(TestData.booking(4, cheaper, user, monday, 1));
+        QuoteRequest byIds = new QuoteRequest();
+        byIds.setCheckIn(monday);
+        byIds.setCheckOut(monday.plusDays(2));
+        byIds.setRoomIds(List.of(cheaper.getId(), dearer.getId(), dearer.getId(), -1L));
+        byIds.setAvailableOnly(true);
+        assertEquals(List.of(dearer.getId()), roomService.quoteRooms(byIds).stream().map(StayQuote::roomId).toList());
+    }
+
+    @Test
+    void rejectsStaysOutsideTheGrid() {
+        LocalDate today = LocalDate.now();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> pricingEngine.quote(1L, today.plusDays(300), today.plusDays(400)));
+        assertEquals("Quotes are only available up to 365 days ahead", e.getMessage());
+    }
+
+    @Test
+    void oneQuoteRollsAStaleGridForwardWhileOthersReadTheCurrentOne() throws Exception {
+        Room room = roomService.createRoom(deluxe("P201"));
+        LocalDate today = LocalDate.now();
+        ReflectionTestUtils.setField(pricingEngine, "origin", today.minusDays(1).toEpochDay());
+        ReentrantLock rebuilding = (ReentrantLock) ReflectionTestUtils.getField(pricingEngine, "rebuilding");
+        ExecutorService quotes = Executors.newFixedThreadPool(2);
+        CountDownLatch rebuildHeld = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // Stands in for the quote that is already rebuilding
+            Future<?> inFlight = quotes.submit(() -> {
+                rebuilding.lock();
+                try {
+                    rebuildHeld.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                } finally {
+                    rebuilding.unlock();
+                }
+                return null;
+            });
+            rebuildHeld.await();
+
+            assertEquals(3, pricingEngine.quote(room.getId(), today, today.plusDays(3)).nights());
+            Future<PriceQuote> pastOldGrid = quotes.submit(() -> pricingEngine.quote(room.getId(), today.plusDays(362), today.plusDays(365)));
+            Thread.sleep(200);
+            assertFalse(pastOldGrid.isDone());
+
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+            assertEquals(3, pastOldGrid.get(5, TimeUnit.SECONDS).nights());
+            assertEquals(today.toEpochDay(), ReflectionTestUtils.getField(pricingEngine, "origin"));
+        } finally {
+            release.countDown();
+            quotes.shutdownNow();
+        }
+    }
+
+    private static Room single(String roomNumber, String price) {
+        Room room = TestData.room(roomNumber);
+        room.setRoomType("SINGLE");
+        room.setPricePerNight(Money.of(price));
+        room.setFloorNumber(19);
+        return room;
+    }
+
+    private static Room deluxe(String roomNumber) {
+        Room room = TestData.room(roomNumber);
+        room.setRoomType("DELUXE");
+        room.setPricePerNight(Money.of("1000.00"));
+        return room;
+    }
+
+    private static long[] rates(String... amounts) {
+        long[] cents = new long[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            cents[i] = Money.of(amounts[i]);
+        }
+        return cents;
+    }
+}
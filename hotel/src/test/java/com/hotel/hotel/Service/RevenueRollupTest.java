@@ -0,0 +1,139 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Invoice;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.RevenueRollup;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RevenueRollupTest {
+    @Autowired
+    private InvoiceService invoiceService;
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollupFollowsInvoiceWritesAndMatchesARebuild() {
+        Room room = roomRepository.save(TestData.room("R101"));
+        User user = userRepository.save(TestData.user("revenue@example.com"));
+        Booking stay = TestData.booking(1, room, user, LocalDate.now().plusDays(5), 2);
+        stay.setRoom(room);
+        stay.setUser(user);
+        Booking booking = bookingRepository.save(stay);
+        LocalDate today = LocalDate.now();
+
+        Invoice cash = invoiceService.createInvoice(invoice(booking, user, "100.00", "14.00", "CASH"));
+        Invoice card = invoiceService.createInvoice(invoice(booking, user, "200.00", "28.00", "CREDIT_CARD"));
+        invoiceService.createInvoices(List.of(invoice(booking, user, "50.10", "7.01", "CASH"),
+                invoice(booking, user, "60.00", "0.00", null)));
+
+        Invoice paid = new Invoice();
+        paid.setBooking(booking);
+        paid.setUser(user);
+        paid.setPaymentStatus("PAID");
+        Invoice updated = invoiceService.updateInvoice(card.getId(), paid);
+        invoiceService.deleteInvoice(cash.getId());
+
+        Map<RevenueRollup.Key, RevenueRollup> incremental = byKey(revenueRollupService.getRevenue(today, today));
+        RevenueRollup pendingCash = incremental.get(new RevenueRollup.Key(today, "CASH", "PENDING"));
+        assertEquals(1, pendingCash.getInvoiceCount());
+        assertEquals(Money.of("57.11"), pendingCash.getTotalAmount());
+        assertEquals(0, incremental.get(new RevenueRollup.Key(today, "CREDIT_CARD", "PENDING")).getInvoiceCount());
+        assertEquals(updated.getTotalAmount(), incremental.get(new RevenueRollup.Key(today, "CREDIT_CARD", "PAID")).getTotalAmount());
+        assertEquals(1, incremental.get(new RevenueRollup.Key(today, RevenueRollup.NO_PAYMENT_METHOD, "PENDING")).getInvoiceCount());
+
+        // Small chunks so the rebuild has to merge partial sums for the same key
+        ReflectionTestUtils.setField(revenueRollupService, "chunkSize", 2L);
+        Map<String, Object> rebuild;
+        try {
+            rebuild = revenueRollupService.rebuild();
+        } finally {
+            ReflectionTestUtils.setField(revenueRollupService, "chunkSize", 50000L);
+        }
+        assertTrue((Integer) rebuild.get("chunks") > 1);
+        Map<RevenueRollup.Key, RevenueRollup> rebuilt = byKey(revenueRollupService.getRevenue(today, today));
+        incremental.values().removeIf(row -> row.getInvoiceCount() == 0);
+        assertEquals(incremental.keySet(), rebuilt.keySet());
+        incremental.forEach((key, row) -> {
+            assertEquals(row.getInvoiceCount(), rebuilt.get(key).getInvoiceCount());
+            assertEquals(row.getTotalAmount(), rebuilt.get(key).getTotalAmount());
+            assertEquals(row.getTaxAmount(), rebuilt.get(key).getTaxAmount());
+        });
+    }
+
+    // Rows written before invoiceDate and paymentStatus were always set
+    @Test
+    void invoicesWithoutADateOrStatusCanStillBeUpdatedAndDeleted() {
+        Room room = roomRepository.save(TestData.room("R201"));
+        User user = userRepository.save(TestData.user("legacy@example.com"));
+        Booking stay = TestData.booking(2, room, user, LocalDate.now().plusDays(9), 2);
+        stay.setRoom(room);
+        stay.setUser(user);
+        Booking booking = bookingRepository.save(stay);
+        Invoice noStatus = invoiceService.createInvoice(invoice(booking, user, "80.00", "0.00", "CASH"));
+        Invoice noDate = invoiceService.createInvoice(invoice(booking, user, "90.00", "0.00", "CASH"));
+        jdbcTemplate.update("update invoices set payment_status = null where id = ?", noStatus.getId());
+        jdbcTemplate.update("update invoices set invoice_date = null where id = ?", noDate.getId());
+
+        Invoice paid = new Invoice();
+        paid.setBooking(booking);
+        paid.setUser(user);
+        paid.setPaymentMethod("BANK_TRANSFER");
+        assertNotNull(invoiceService.updateInvoice(noStatus.getId(), paid));
+        invoiceService.deleteInvoice(noDate.getId());
+
+        revenueRollupService.rebuild();
+        LocalDate today = LocalDate.now();
+        RevenueRollup row = byKey(revenueRollupService.getRevenue(today, today))
+                .get(new RevenueRollup.Key(today, "BANK_TRANSFER", RevenueRollup.NO_PAYMENT_STATUS));
+        assertEquals(1, row.getInvoiceCount());
+        assertEquals(Money.of("80.00"), row.getTotalAmount());
+    }
+
+    private static Invoice invoice(Booking booking, User user, String amount, String tax, String method) {
+        Invoice invoice = new Invoice();
+        invoice.setBooking(booking);
+        invoice.setUser(user);
+        invoice.setTotalAmount(Money.of(amount));
+        invoice.setTaxAmount(Money.of(tax));
+        invoice.setPaymentMethod(method);
+        return invoice;
+    }
+
+    private static Map<RevenueRollup.Key, RevenueRollup> byKey(List<RevenueRollup> rows) {
+        return rows.stream().collect(Collectors.toMap(RevenueRollup::key, Function.identity()));
+    }
+}
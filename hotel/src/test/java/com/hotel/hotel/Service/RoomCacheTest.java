@@ -0,0 +1,45 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RoomCacheTest {
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void writesInvalidateOnlyTheAffectedEntries() {
+        Room room = roomService.createRoom(TestData.room("C101"));
+        roomService.getRoomsByType("double");
+        roomService.getRoomsByType("suite");
+        roomService.getRoomsByStatus("available");
+        assertEquals(1, roomService.getRoomsByType("DOUBLE").stream().filter(r -> r.getId().equals(room.getId())).count());
+        assertNotNull(cacheManager.getCache(RoomCache.BY_ID).get(room.getId()));
+
+        Room details = TestData.room("C101");
+        details.setRoomType("SUITE");
+        details.setRoomStatus("MAINTENANCE");
+        roomService.updateRoom(room.getId(), details);
+
+        assertNull(cacheManager.getCache(RoomCache.BY_TYPE).get("DOUBLE"));
+        assertNull(cacheManager.getCache(RoomCache.BY_TYPE).get("SUITE"));
+        assertNull(cacheManager.getCache(RoomCache.BY_STATUS).get("AVAILABLE"));
+        assertEquals("SUITE", roomService.getRoomById(room.getId()).orElseThrow().getRoomType());
+        assertTrue(roomService.getRoomsByType("suite").stream().anyMatch(r -> r.getId().equals(room.getId())));
+
+        roomService.deleteRoom(room.getId());
+        assertTrue(roomService.getRoomById(room.getId()).isEmpty());
+    }
+}
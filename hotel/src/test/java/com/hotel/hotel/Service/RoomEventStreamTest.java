@@ -0,0 +1,215 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import com.hotel.hotel.Model.BookingChangedEvent;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Repository.UserRepository;
+import com.hotel.hotel.Security.TokenService;
+import com.hotel.hotel.support.TestData;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoomEventStreamTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoomEventStream roomEventStream;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenService tokenService;
+
+    private final ExecutorService slowSender = Executors.newSingleThreadExecutor();
+    private final CountDownLatch released = new CountDownLatch(1);
+    private ExecutorService sender;
+    private MvcResult stream;
+    private final List<MvcResult> stalled = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        if (stream != null) {
+            stream.getRequest().getAsyncContext().complete();
+        }
+        stalled.forEach(result -> result.getRequest().getAsyncContext().complete());
+        if (sender != null) {
+            ReflectionTestUtils.setField(roomEventStream, "sender", sender);
+        }
+        ReflectionTestUtils.setField(roomEventStream, "bufferSize", 256);
+        slowSender.shutdownNow();
+        assertEquals(0, roomEventStream.subscriberCount());
+    }
+
+    @Test
+    void repeatedChangesToARoomReachASlowClientOnce() throws Exception {
+        Room first = roomService.createRoom(TestData.room("E101"));
+        Room second = roomService.createRoom(TestData.room("E102"));
+        subscribeWhileSenderIsBlocked();
+
+        for (String status : new String[] {"OCCUPIED", "MAINTENANCE", "RESERVED"}) {
+            first.setRoomStatus(status);
+            roomService.updateRoom(first.getId(), first);
+        }
+        second.setRoomStatus("OCCUPIED");
+        roomService.updateRoom(second.getId(), second);
+        // Published directly: creating a booking here would reserve booking ids in this context that a
+        // later context on the same database hands out again
+        LocalDate checkIn = LocalDate.now().plusDays(2);
+        eventPublisher.publishEvent(new BookingChangedEvent(9101L, second.getId(), checkIn, checkIn.plusDays(2), false));
+        released.countDown();
+
+        String events = awaitContent(stream.getResponse(), "event:booking");
+        assertEquals(2, count(events, "event:room\n"));
+        assertTrue(events.contains("\"roomId\":" + first.getId() + ",\"roomNumber\":\"E101\",\"roomStatus\":\"RESERVED\""));
+        assertFalse(events.contains("\"roomNumber\":\"E101\",\"roomStatus\":\"OCCUPIED\""));
+        assertTrue(events.contains("\"roomNumber\":\"E102\",\"roomStatus\":\"OCCUPIED\""));
+        assertTrue(events.contains("\"bookingId\":9101,\"roomId\":" + second.getId()));
+        assertTrue(events.indexOf("E101") < events.indexOf("E102"));
+    }
+
+    @Test
+    void overflowingTheBufferSendsOneResync() throws Exception {
+        ReflectionTestUtils.setField(roomEventStream, "bufferSize", 2);
+        Room[] rooms = {roomService.createRoom(TestData.room("E201")), roomService.createRoom(TestData.room("E202")),
+                roomService.createRoom(TestData.room("E203"))};
+        subscribeWhileSenderIsBlocked();
+
+        for (Room room : rooms) {
+            room.setRoomStatus("MAINTENANCE");
+            roomService.updateRoom(room.getId(), room);
+        }
+        released.countDown();
+
+        String events = awaitContent(stream.getResponse(), "event:resync");
+        assertEquals(1, count(events, "event:resync"));
+        assertFalse(events.contains("event:room"));
+
+        rooms[0].setRoomStatus("AVAILABLE");
+        roomService.updateRoom(rooms[0].getId(), rooms[0]);
+        assertTrue(awaitContent(stream.getResponse(), "event:room").contains("\"roomNumber\":\"E201\",\"roomStatus\":\"AVAILABLE\""));
+    }
+
+    @Test
+    void clientsThatStopReadingDoNotHoldUpTheOthers() throws Exception {
+        Room room = roomService.createRoom(TestData.room("E301"));
+        // Holding an emitter's monitor blocks its sends the way a client that stops reading does once the
+        // socket buffers are full
+        ExecutorService stallers = Executors.newCachedThreadPool();
+        try {
+            for (int i = 0; i < 8; i++) {
+                Set<Object> before = emitters();
+                stalled.add(subscribe());
+                Set<Object> added = emitters();
+                added.removeAll(before);
+                Object emitter = added.iterator().next();
+                CountDownLatch held = new CountDownLatch(1);
+                stallers.execute(() -> {
+                    synchronized (emitter) {
+                        held.countDown();
+                        try {
+                            released.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+                held.await();
+            }
+            stream = subscribe();
+
+            room.setRoomStatus("MAINTENANCE");
+            roomService.updateRoom(room.getId(), room);
+
+            assertTrue(awaitContent(stream.getResponse(), "event:room").contains("\"roomNumber\":\"E301\""));
+            for (MvcResult client : stalled) {
+                assertEquals("", client.getResponse().getContentAsString());
+            }
+        } finally {
+            released.countDown();
+            stallers.shutdown();
+        }
+    }
+
+    // Holds the only sender thread so changes pile up in the subscriber's buffer, as they do for a slow client
+    private void subscribeWhileSenderIsBlocked() throws Exception {
+        sender = (ExecutorService) ReflectionTestUtils.getField(roomEventStream, "sender");
+        ReflectionTestUtils.setField(roomEventStream, "sender", slowSender);
+        slowSender.execute(() -> {
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        mockMvc.perform(get("/rooms/events")).andExpect(status().isUnauthorized());
+        stream = subscribe();
+        assertEquals(1, roomEventStream.subscriberCount());
+    }
+
+    private MvcResult subscribe() throws Exception {
+        String bearer = "Bearer " + tokenService.issue(userRepository.save(TestData.user("events" + System.nanoTime() + "@example.com")));
+        return mockMvc.perform(get("/rooms/events").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private Set<Object> emitters() {
+        Set<?> subscribers = (Set<?>) ReflectionTestUtils.getField(roomEventStream, "subscribers");
+        Set<Object> emitters = new HashSet<>();
+        subscribers.forEach(subscriber -> emitters.add(ReflectionTestUtils.getField(subscriber, "emitter")));
+        return emitters;
+    }
+
+    // Waits for the marker and for the event it starts to be written out completely
+    private static String awaitContent(MockHttpServletResponse response, String marker) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = response.getContentAsString();
+        while (!(content.contains(marker) && content.endsWith("\n\n")) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(marker), "no " + marker + " in " + content);
+        return content;
+    }
+
+    private static int count(String text, String marker) {
+        int count = 0;
+        for (int at = text.indexOf(marker); at >= 0; at = text.indexOf(marker, at + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hotel.hotel.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import com.hotel.hotel.Model.BookingStay;
+import com.hotel.hotel.Repository.BookingRepository;
+import com.hotel.hotel.Repository.InvoiceRepository;
+import com.hotel.hotel.Repository.RoomRepository;
+import com.hotel.hotel.Repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:generator;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private InvoiceRepository invoiceRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void generatesTheRequestedVolumeThroughTheServices() {
+        SyntheticDataGenerator.Generated generated =
+                generator.generate(new SyntheticDataGenerator.Plan(60, 40, 300, 0.5, 120, 7));
+
+        assertEquals(60, generated.roomIds().size());
+        assertEquals(40, generated.userIds().size());
+        assertEquals(300, generated.bookingIds().size());
+        assertEquals(60, roomRepository.count());
+        assertEquals(40, userRepository.count());
+        assertEquals(300, bookingRepository.count());
+        assertEquals(generated.invoiceIds().size(), invoiceRepository.count());
+        assertTrue(generated.invoiceIds().size() > 100 && generated.invoiceIds().size() < 200);
+
+        LocalDate today = LocalDate.now();
+        Map<Long, List<BookingStay>> byRoom = bookingRepository.findAllStays().stream()
+                .collect(Collectors.groupingBy(BookingStay::getRoomId, Collectors.toCollection(ArrayList::new)));
+        for (List<BookingStay> stays : byRoom.values()) {
+            stays.sort(Comparator.comparing(BookingStay::getCheckInDate));
+            for (int i = 0; i < stays.size(); i++) {
+                assertFalse(stays.get(i).getCheckInDate().isBefore(today));
+                assertFalse(stays.get(i).getCheckOutDate().isAfter(today.plusDays(120)));
+                if (i > 0) {
+                    assertFalse(stays.get(i).getCheckInDate().isBefore(stays.get(i - 1).getCheckOutDate()));
+                }
+            }
+        }
+        // Every stay reached the availability index, as it would through the API
+        assertEquals(Boolean.TRUE, bookingService.checkAvailabilityIndex().get("consistent"));
+    }
+
+    @Test
+    void rejectsPlansOutsideTheRoomNumberSpace() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SyntheticDataGenerator.Plan(SyntheticDataGenerator.MAX_ROOMS + 1, 10, 10, 0.5, 30, 1));
+    }
+}
@@ -0,0 +1,108 @@
+package com.hotel.hotel;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the app in a fresh JVM with the prod profile against a migrated H2 file database and times
+ * it from process start to the first 200 from {@code /rooms/}. The result is appended to
+ * {@code target/startup-times.csv} so runs can be compared, and the run fails above the budget
+ * ({@code -Dhotel.startup.budget-ms}, 20 seconds by default). Extra JVM options, e.g. a CDS archive,
+ * go in {@code -Dhotel.startup.jvm-args}. Run with {@code mvn test -Pbenchmark -Dtest=StartupTimeTest}.
+ */
+@Tag("benchmark")
+class StartupTimeTest {
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    private static final Duration BUDGET = Duration.ofMillis(Long.getLong("hotel.startup.budget-ms", 20_000));
+    private static final Path RESULTS = Path.of("target", "startup-times.csv");
+
+    @Test
+    void prodProfileServesRoomsWithinBudget() throws Exception {
+        Path database = Files.createTempDirectory("startup").resolve("hotel");
+        String url = "jdbc:h2:file:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+        Flyway.configure().dataSource(url, "sa", "").locations("classpath:db/migration").load().migrate();
+
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmArgs = System.getProperty("hotel.startup.jvm-args", "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(List.of(jvmArgs.split("\\s+")));
+        }
+        // Devtools is on the test classpath; a packaged app never runs with it
+        command.addAll(List.of("-Dspring.devtools.restart.enabled=false", "-cp", System.getProperty("java.class.path"), HotelApplication.class.getName(),
+                "--spring.profiles.active=prod,test", "--server.port=" + port, "--spring.datasource.url=" + url,
+                // The test profile's create-drop would rebuild the schema the migrations just made
+                "--spring.jpa.hibernate.ddl-auto=none"));
+
+        Instant started = Instant.now();
+        Process app = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(File.createTempFile("startup", ".log"))
+                .start();
+        try {
+            Duration elapsed = firstRoomsResponse(port, started, app);
+            log.info("prod profile: first /rooms/ response after {} ms", elapsed.toMillis());
+            record(elapsed, jvmArgs);
+            assertTrue(elapsed.compareTo(BUDGET) <= 0, "startup took " + elapsed.toMillis() + " ms");
+        } finally {
+            app.destroy();
+            app.waitFor();
+        }
+    }
+
+    private Duration firstRoomsResponse(int port, Instant started, Process app) throws Exception {
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/rooms/")).GET().build();
+        Instant deadline = started.plus(BUDGET.multipliedBy(3));
+        while (Instant.now().isBefore(deadline)) {
+            if (!app.isAlive()) {
+                fail("app exited with " + app.exitValue());
+            }
+            try {
+                if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.between(started, Instant.now());
+                }
+            } catch (IOException notListeningYet) {
+                // Tomcat is not accepting connections yet
+            }
+            Thread.sleep(20);
+        }
+        return fail("no 200 from /rooms/ within " + BUDGET.multipliedBy(3).toMillis() + " ms");
+    }
+
+    private static void record(Duration elapsed, String jvmArgs) throws IOException {
+        Files.createDirectories(RESULTS.getParent());
+        if (Files.notExists(RESULTS)) {
+            Files.writeString(RESULTS, "timestamp,java,jvm_args,millis\n");
+        }
+        Files.writeString(RESULTS, String.format("%s,%s,\"%s\",%d%n", Instant.now(), Runtime.version().feature(),
+                jvmArgs, elapsed.toMillis()), StandardOpenOption.APPEND);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
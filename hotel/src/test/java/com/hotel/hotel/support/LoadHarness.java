@@ -0,0 +1,140 @@
+package com.hotel.hotel.support;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load: requests are sent on a fixed schedule at the target rate, cycling through the
+ * endpoints, whether or not earlier ones have answered. Latency is measured from the scheduled send
+ * time rather than the actual one, so a stalled server shows up as latency instead of silently
+ * lowering the offered rate.
+ */
+public final class LoadHarness implements AutoCloseable {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Map<String, String> headers;
+
+    public record Endpoint(String name, String path) {
+    }
+
+    public record Report(String endpoint, long requests, long errors, double throughput,
+                         double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+        public double errorRate() {
+            return requests == 0 ? 0.0 : (double) errors / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-20s %7d requests %8.1f/s  p50 %6.1f ms  p95 %6.1f ms  p99 %6.1f ms  max %6.1f ms  %d errors",
+                    endpoint, requests, throughput, p50Millis, p95Millis, p99Millis, maxMillis, errors);
+        }
+    }
+
+    public LoadHarness(String baseUrl, Map<String, String> headers) {
+        this.http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+        this.baseUrl = baseUrl;
+        this.headers = headers;
+    }
+
+    public Map<String, Report> run(List<Endpoint> endpoints, double requestsPerSecond, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long interval = (long) (1e9 / requestsPerSecond);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> recorders.put(endpoint.name(), new Recorder()));
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        for (long sent = 0; ; sent++) {
+            long scheduled = start + sent * interval;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Endpoint endpoint = endpoints.get((int) (sent % endpoints.size()));
+            Recorder recorder = scheduled >= measureFrom ? recorders.get(endpoint.name()) : null;
+            inFlight.add(http.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        if (recorder != null) {
+                            recorder.add(System.nanoTime() - scheduled, failure == null && response.statusCode() == 200);
+                        }
+                        return null;
+                    }));
+            if (sent % 1024 == 0) {
+                inFlight.removeIf(CompletableFuture::isDone);
+            }
+        }
+        try {
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new IllegalStateException("Requests still outstanding 30 s after the run ended", e);
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, Report> reports = new LinkedHashMap<>();
+        recorders.forEach((name, recorder) -> reports.put(name, recorder.report(name, seconds)));
+        return reports;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path()))
+                .timeout(Duration.ofSeconds(10));
+        headers.forEach(request::header);
+        return request.GET().build();
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+
+        synchronized Report report(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new Report(endpoint, count, errors, count / seconds, percentile(sorted, 0.50),
+                    percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
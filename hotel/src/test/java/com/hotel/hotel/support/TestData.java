@@ -0,0 +1,60 @@
+package com.hotel.hotel.support;
+
+import java.time.LocalDate;
+import com.hotel.hotel.Model.Booking;
+import com.hotel.hotel.Model.Money;
+import com.hotel.hotel.Model.Room;
+import com.hotel.hotel.Model.User;
+
+public final class TestData {
+
+    private TestData() {
+    }
+
+    public static Room room(String roomNumber) {
+        Room room = new Room();
+        room.setRoomNumber(roomNumber);
+        room.setRoomType("DOUBLE");
+        room.setCapacity(2);
+        room.setPricePerNight(Money.of("250.00"));
+        room.setRoomStatus("AVAILABLE");
+        room.setSmokingAllowed("NO");
+        room.setFloorNumber(1);
+        return room;
+    }
+
+    public static User user(String email) {
+        User user = new User();
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setEmail(email);
+        user.setPassword("Pass123@");
+        user.setPhoneNumber("+201012345678");
+        user.setAddress("123 Main St, Cairo");
+        user.setUserRole("USER");
+        return user;
+    }
+
+    public static Booking booking(int sequence, Room room, User user, LocalDate checkIn, int nights) {
+        Booking booking = new Booking();
+        booking.setBookingNumber(String.format("BKG-%04d", sequence % 10000));
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkIn.plusDays(nights));
+        booking.setRoom(reference(room));
+        booking.setUser(reference(user));
+        return booking;
+    }
+
+    // Mirrors a request body that only carries the associated ids
+    private static Room reference(Room room) {
+        Room reference = new Room();
+        reference.setId(room.getId());
+        return reference;
+    }
+
+    private static User reference(User user) {
+        User reference = new User();
+        reference.setId(user.getId());
+        return reference;
+    }
+}